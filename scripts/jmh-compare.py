@@ -0,0 +1,37 @@
+#!/usr/bin/env python3
+"""Compare two JMH JSON result files: ./scripts/jmh-compare.py base.json head.json"""
+import json
+import sys
+
+
+def load(path):
+    with open(path) as handle:
+        results = {}
+        for run in json.load(handle):
+            params = ",".join(f"{key}={value}" for key, value in sorted(run.get("params", {}).items()))
+            name = run["benchmark"].rsplit(".", 2)[-2:]
+            key = ".".join(name) + (f" [{params}]" if params else "")
+            metric = run["primaryMetric"]
+            results[key] = (metric["score"], metric["scoreUnit"], run["mode"])
+        return results
+
+
+def main():
+    if len(sys.argv) != 3:
+        sys.exit(__doc__)
+    base, head = load(sys.argv[1]), load(sys.argv[2])
+    print(f"{'benchmark':70} {'base':>14} {'head':>14} {'change':>9}  unit")
+    for key in sorted(base.keys() | head.keys()):
+        base_score = base.get(key, (None,))[0]
+        head_score, unit, mode = head.get(key, base.get(key))
+        change = ""
+        if base_score and key in head:
+            ratio = head_score / base_score
+            change = f"{(ratio - 1) * 100:+.1f}%"
+        base_text = f"{base_score:.3f}" if base_score is not None else "-"
+        head_text = f"{head_score:.3f}" if key in head else "-"
+        print(f"{key:70} {base_text:>14} {head_text:>14} {change:>9}  {unit} ({mode})")
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,14 @@
+#!/usr/bin/env bash
+# Compare the JVM (AOT + CDS) and native builds against embedded H2: startup time, RSS and
+# steady-state throughput on /api/v1/clients. Requires a GraalVM JDK 21 as JAVA_HOME.
+# Usage: ./scripts/native-benchmark.sh [runs] [requests]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS="${1:-3}"
+REQUESTS="${2:-20000}"
+
+sh ./mvnw -B -q -Pnative,local-h2 native:compile -DskipTests
+sh ./mvnw -B -q -Pstartup,local-h2 package -DskipTests
+sh ./mvnw -B -q -Pbenchmark test-compile exec:exec@startup-test \
+    -Dstartup.args="-modes default,cds,native -runs ${RUNS} -requests ${REQUESTS} -concurrency 50"
@@ -0,0 +1,164 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientListResponseSerializer;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientResponseAdapter;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientPageResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientListSerializationBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<Client> clients;
+    private ObjectMapper reflective;
+    private ObjectMapper prebuilt;
+    private ClientResponseAdapter adapter;
+    private CountingOutputStream out;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        clients = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            clients.add(Client.builder()
+                    .id((long) i)
+                    .name("Name" + i)
+                    .surname("Surname" + i)
+                    .age(18 + random.nextInt(80))
+                    .birthDate(LocalDate.of(1940, 1, 1).plusDays(random.nextInt(30_000)))
+                    .build());
+        }
+        reflective = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        prebuilt = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule().addSerializer(new ClientListResponseSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        adapter = new ClientResponseAdapter();
+        out = new CountingOutputStream();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Output {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void listReflective(Output output) throws IOException {
+        output.bytes += writePage(reflective, uncachedPage());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void listPrebuilt(Output output) throws IOException {
+        output.bytes += writePage(prebuilt, cachedPage());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void exportReflective(Output output) throws IOException {
+        out.count = 0;
+        try (JsonGenerator generator = reflective.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            for (Client client : clients) {
+                generator.writeObject(uncached(client));
+                generator.writeRaw('\n');
+            }
+        }
+        output.bytes += out.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void exportPrebuilt(Output output) throws IOException {
+        out.count = 0;
+        try (JsonGenerator generator = prebuilt.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            for (Client client : clients) {
+                ClientListResponseSerializer.write(adapter.toClientListResponse(client), generator);
+                generator.writeRaw('\n');
+            }
+        }
+        output.bytes += out.count;
+    }
+
+    private long writePage(ObjectMapper mapper, ClientPageResponse page) throws IOException {
+        out.count = 0;
+        mapper.writeValue(out, page);
+        return out.count;
+    }
+
+    private ClientPageResponse uncachedPage() {
+        return new ClientPageResponse(clients.stream().map(ClientListSerializationBenchmark::uncached).toList(), null);
+    }
+
+    private ClientPageResponse cachedPage() {
+        return new ClientPageResponse(clients.stream().map(adapter::toClientListResponse).toList(), null);
+    }
+
+    private static ClientListResponse uncached(Client client) {
+        return new ClientListResponse(client.getId(), client.getName(), client.getSurname(), client.getAge(),
+                client.getBirthDate().plusYears(80));
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.AgeStatisticsCalculator;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.AgeSummary;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ClientMetricsBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000", "10000000" })
+    private int population;
+
+    private List<Client> clients;
+    private ClientAgeStatistics statistics;
+    private int[] ages;
+    private AgeStatisticsCalculator sequentialCalculator;
+    private AgeStatisticsCalculator parallelCalculator;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        clients = new ArrayList<>(population);
+        statistics = new ClientAgeStatistics(null);
+        ages = new int[population];
+        sequentialCalculator = new AgeStatisticsCalculator(Integer.MAX_VALUE);
+        parallelCalculator = new AgeStatisticsCalculator(1_000_000);
+        for (int i = 0; i < population; i++) {
+            int age = 18 + random.nextInt(80);
+            clients.add(Client.builder().id((long) i).age(age).build());
+            statistics.add(age);
+            ages[i] = age;
+        }
+    }
+
+    @Benchmark
+    public void streamOverEntities(Blackhole blackhole) {
+        double average = clients.stream()
+                .mapToInt(Client::getAge)
+                .average()
+                .orElse(0);
+        double standardDeviation = Math.sqrt(clients.stream()
+                .mapToDouble(client -> Math.pow(client.getAge() - average, 2))
+                .average()
+                .orElse(0));
+        blackhole.consume(average);
+        blackhole.consume(standardDeviation);
+    }
+
+    @Benchmark
+    public void streamOverBoxedAges(Blackhole blackhole) {
+        List<Integer> boxed = clients.stream().map(Client::getAge).toList();
+        double average = boxed.stream().mapToInt(Integer::intValue).average().orElse(0);
+        double standardDeviation = Math.sqrt(boxed.stream()
+                .mapToDouble(age -> Math.pow(age - average, 2))
+                .average()
+                .orElse(0));
+        blackhole.consume(average);
+        blackhole.consume(standardDeviation);
+    }
+
+    @Benchmark
+    public AgeSummary primitiveSinglePass() {
+        return sequentialCalculator.summarize(ages);
+    }
+
+    @Benchmark
+    public AgeSummary primitiveParallel() {
+        return parallelCalculator.summarize(ages);
+    }
+
+    @Benchmark
+    public void rebuildRunningAggregate(Blackhole blackhole) {
+        ClientAgeStatistics rebuilt = new ClientAgeStatistics(null);
+        for (Client client : clients) {
+            rebuilt.add(client.getAge());
+        }
+        blackhole.consume(rebuilt.averageAge());
+        blackhole.consume(rebuilt.standardDeviation());
+    }
+
+    @Benchmark
+    public void readRunningAggregate(Blackhole blackhole) {
+        blackhole.consume(statistics.averageAge());
+        blackhole.consume(statistics.standardDeviation());
+    }
+}
@@ -0,0 +1,48 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.benchmarks;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientResponseAdapter;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientResponseAdapterBenchmark {
+
+    private ClientResponseAdapter adapter;
+    private Client client;
+
+    @Setup
+    public void setUp() {
+        adapter = new ClientResponseAdapter();
+        client = Client.builder()
+                .id(1L)
+                .name("John")
+                .surname("Doe")
+                .age(30)
+                .birthDate(LocalDate.of(1994, 12, 17))
+                .build();
+    }
+
+    @Benchmark
+    public ClientListResponse toClientListResponse() {
+        return adapter.toClientListResponse(client);
+    }
+}
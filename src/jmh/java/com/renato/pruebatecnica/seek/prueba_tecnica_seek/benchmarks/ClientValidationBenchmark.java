@@ -0,0 +1,53 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.benchmarks;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.validations.ClientValidation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private ClientValidation clientValidation;
+    private LocalDate birthDate;
+    private int age;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        clientValidation = new ClientValidation(validatorFactory.getValidator());
+        age = 30;
+        birthDate = LocalDate.now().minusYears(age);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void validateAge() {
+        clientValidation.validateAge(birthDate, age);
+    }
+}
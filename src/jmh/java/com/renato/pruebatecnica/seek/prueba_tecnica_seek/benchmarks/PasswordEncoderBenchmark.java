@@ -0,0 +1,53 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.PasswordConfig;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({ "4", "8", "10", "12" })
+    private int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String password;
+    private String storedPassword;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordConfig().passwordEncoder(strength);
+        password = "password";
+        storedPassword = new String(password);
+        storedHash = passwordEncoder.encode(password);
+    }
+
+    @Benchmark
+    public boolean plaintextEquals() {
+        return storedPassword.equals(password);
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(password, storedHash);
+    }
+}
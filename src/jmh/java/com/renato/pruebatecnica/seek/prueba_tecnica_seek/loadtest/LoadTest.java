@@ -0,0 +1,310 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.PruebaTecnicaSeekApplication;
+
+public final class LoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final List<String> CRUD_OPERATIONS = List.of("create", "get", "update", "delete");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        List<Result> results = new ArrayList<>();
+        if (options.baseUrl != null) {
+            results.addAll(run("external", options.baseUrl, options));
+        } else {
+            for (String mode : options.modes) {
+                try (ConfigurableApplicationContext context = start(mode, options)) {
+                    String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                    seed(baseUrl, options.seed);
+                    results.addAll(run(mode, baseUrl, options));
+                }
+            }
+        }
+
+        System.out.printf("%nscenario=%s profiles=%s concurrency=%d requests=%d%n", options.scenario,
+                String.join(",", options.profiles), options.concurrency, options.requests);
+        System.out.printf("%-18s %10s %8s %12s %10s %10s %10s%n",
+                "mode", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            System.out.printf("%-18s %10d %8d %12.1f %10.2f %10.2f %10.2f%n",
+                    result.mode, result.requests, result.errors, result.throughput,
+                    result.p50Millis, result.p99Millis, result.maxMillis);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode, Options options) {
+        SpringApplication application = new SpringApplication(PruebaTecnicaSeekApplication.class);
+        application.setAdditionalProfiles(options.profiles.toArray(String[]::new));
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                "--spring.datasource.url=jdbc:h2:mem:load-test-" + mode
+                        + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///load-test-" + mode
+                        + "?options=MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--logging.level.root=WARN"));
+        properties.addAll(options.properties);
+        return application.run(properties.toArray(String[]::new));
+    }
+
+    static void seed(String baseUrl, int clients) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        String token = login(client, baseUrl);
+        SplittableRandom random = new SplittableRandom(42);
+        ArrayNode batch = OBJECT_MAPPER.createArrayNode();
+        for (int i = 0; i < clients; i++) {
+            int age = 18 + random.nextInt(70);
+            batch.addObject()
+                    .put("name", "Name" + i)
+                    .put("surname", "Surname" + i)
+                    .put("age", age)
+                    .put("birthDate", LocalDate.now().minusYears(age).toString());
+        }
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/clients/batch"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(batch)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+        }
+    }
+
+    static String login(HttpClient client, String baseUrl) throws Exception {
+        HttpResponse<String> response = client.send(loginRequest(baseUrl), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        JsonNode body = OBJECT_MAPPER.readTree(response.body());
+        return body.get("token").asText();
+    }
+
+    private static HttpRequest loginRequest(String baseUrl) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"user@email.com\",\"password\":\"password\"}"))
+                .build();
+    }
+
+    private static List<Result> run(String mode, String baseUrl, Options options) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        if ("crud".equals(options.scenario)) {
+            String token = login(client, baseUrl);
+            executeCrud(client, baseUrl, token, options.concurrency, options.warmup);
+            return executeCrud(client, baseUrl, token, options.concurrency, options.requests).stream()
+                    .map(result -> result.named(mode + "/" + result.mode))
+                    .toList();
+        }
+        HttpRequest request = switch (options.scenario) {
+            case "login" -> loginRequest(baseUrl);
+            default -> HttpRequest.newBuilder(URI.create(baseUrl + options.path))
+                    .header("Authorization", "Bearer " + login(client, baseUrl))
+                    .GET()
+                    .build();
+        };
+
+        execute(client, request, options.concurrency, options.warmup);
+        return List.of(execute(client, request, options.concurrency, options.requests).named(mode));
+    }
+
+    private static List<Result> executeCrud(HttpClient client, String baseUrl, String token, int concurrency,
+            int requests) throws InterruptedException {
+        int cycles = requests / CRUD_OPERATIONS.size();
+        long[][] latencies = new long[CRUD_OPERATIONS.size()][cycles];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger[] errors = new AtomicInteger[CRUD_OPERATIONS.size()];
+        Arrays.setAll(errors, index -> new AtomicInteger());
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.submit(() -> {
+                    int cycle;
+                    while ((cycle = next.getAndIncrement()) < cycles) {
+                        String location = null;
+                        for (int operation = 0; operation < CRUD_OPERATIONS.size(); operation++) {
+                            long requestStart = System.nanoTime();
+                            try {
+                                HttpResponse<String> response = client.send(
+                                        crudRequest(operation, baseUrl, token, location, cycle),
+                                        HttpResponse.BodyHandlers.ofString());
+                                if (response.statusCode() >= 400) {
+                                    errors[operation].incrementAndGet();
+                                } else if (operation == 0) {
+                                    location = "/api/v1/clients/" + OBJECT_MAPPER.readTree(response.body()).get("id")
+                                            .asLong();
+                                }
+                            } catch (Exception ex) {
+                                errors[operation].incrementAndGet();
+                            }
+                            latencies[operation][cycle] = System.nanoTime() - requestStart;
+                            if (location == null) {
+                                break;
+                            }
+                        }
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        List<Result> results = new ArrayList<>();
+        for (int operation = 0; operation < CRUD_OPERATIONS.size(); operation++) {
+            results.add(Result.of(latencies[operation], errors[operation].get(), elapsed)
+                    .named(CRUD_OPERATIONS.get(operation)));
+        }
+        return results;
+    }
+
+    private static HttpRequest crudRequest(int operation, String baseUrl, String token, String location, int cycle)
+            throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+        return switch (operation) {
+            case 0 -> builder.uri(URI.create(baseUrl + "/api/v1/clients"))
+                    .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(
+                            OBJECT_MAPPER.createObjectNode()
+                                    .put("name", "Load" + cycle)
+                                    .put("surname", "Test")
+                                    .put("age", 30)
+                                    .put("birthDate", LocalDate.now().minusYears(30).toString()))))
+                    .build();
+            case 1 -> builder.uri(URI.create(baseUrl + location)).GET().build();
+            case 2 -> builder.uri(URI.create(baseUrl + location))
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Updated" + cycle + "\"}"))
+                    .build();
+            default -> builder.uri(URI.create(baseUrl + location)).DELETE().build();
+        };
+    }
+
+    static Result execute(HttpClient client, HttpRequest request, int concurrency, int requests)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long requestStart = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - requestStart;
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return Result.of(latencies, errors.get(), elapsed);
+    }
+
+    static final class Result {
+        private String mode;
+        final int requests;
+        final int errors;
+        final double throughput;
+        final double p50Millis;
+        final double p99Millis;
+        final double maxMillis;
+
+        private Result(int requests, int errors, double throughput, double p50Millis, double p99Millis,
+                double maxMillis) {
+            this.requests = requests;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        private static Result of(long[] latencies, int errors, long elapsedNanos) {
+            long[] sorted = Arrays.stream(latencies).filter(latency -> latency > 0).toArray();
+            if (sorted.length == 0) {
+                return new Result(0, errors, 0, 0, 0, 0);
+            }
+            Arrays.sort(sorted);
+            return new Result(sorted.length, errors,
+                    sorted.length / (elapsedNanos / 1e9),
+                    percentile(sorted, 0.5), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+
+        private Result named(String mode) {
+            this.mode = mode;
+            return this;
+        }
+    }
+
+    private static final class Options {
+        private String baseUrl;
+        private List<String> modes = List.of("platform", "virtual");
+        private List<String> profiles = new ArrayList<>(List.of("test"));
+        private final List<String> properties = new ArrayList<>();
+        private String scenario = "list";
+        private String path = "/api/v1/clients?limit=20";
+        private int concurrency = 200;
+        private int requests = 20000;
+        private int warmup = 2000;
+        private int seed = 1000;
+
+        private static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "-base-url" -> options.baseUrl = value;
+                    case "-modes" -> options.modes = List.of(value.split(","));
+                    case "-profiles" -> options.profiles = new ArrayList<>(List.of(value.split(",")));
+                    case "-property" -> options.properties.add("--" + value);
+                    case "-scenario" -> options.scenario = value;
+                    case "-path" -> options.path = value;
+                    case "-concurrency" -> options.concurrency = Integer.parseInt(value);
+                    case "-requests" -> options.requests = Integer.parseInt(value);
+                    case "-warmup" -> options.warmup = Integer.parseInt(value);
+                    case "-seed" -> options.seed = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+                i++;
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.PruebaTecnicaSeekApplication;
+
+public final class StartupTest {
+
+    private static final String JAVA = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    private static final List<String> TEST_DRIVERS = List.of("h2-", "r2dbc-h2-");
+
+    private StartupTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        boolean jvm = options.modes.stream().anyMatch(mode -> !"native".equals(mode));
+        String classpath = jvm ? classpath(extract(options)) : null;
+        Path archive = options.workDir.resolve("application.jsa");
+        if (options.modes.contains("cds")) {
+            train(classpath, archive, options);
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : options.modes) {
+            long[] timings = new long[options.runs];
+            long[] residentBytes = new long[options.runs];
+            LoadTest.Result load = null;
+            long loadedResidentBytes = -1;
+            for (int run = 0; run < options.runs; run++) {
+                int port = freePort();
+                List<String> command = command(mode, classpath, archive, options, run, port);
+                long launched = System.nanoTime();
+                Process process = start(command);
+                try {
+                    timings[run] = timeToFirstRequest(process, port, launched);
+                    residentBytes[run] = residentBytes(process);
+                    if (run == options.runs - 1 && options.requests > 0) {
+                        load = load(port, options);
+                        loadedResidentBytes = residentBytes(process);
+                    }
+                } finally {
+                    stop(process);
+                }
+            }
+            results.add(Result.of(mode, timings, residentBytes, load, loadedResidentBytes));
+        }
+
+        System.out.printf("%njar=%s profiles=%s runs=%d concurrency=%d requests=%d%n", options.jar,
+                String.join(",", options.profiles), options.runs, options.concurrency, options.requests);
+        System.out.printf("%-14s %10s %10s %10s %10s %10s %10s %10s%n", "mode", "min ms", "p50 ms", "max ms",
+                "rss MB", "req/s", "p99 ms", "load rss");
+        for (Result result : results) {
+            System.out.printf("%-14s %10d %10d %10d %10s %10s %10s %10s%n", result.mode, result.minMillis,
+                    result.p50Millis, result.maxMillis, megabytes(result.residentBytes),
+                    result.load != null ? "%.1f".formatted(result.load.throughput) : "-",
+                    result.load != null ? "%.2f".formatted(result.load.p99Millis) : "-",
+                    megabytes(result.loadedResidentBytes));
+        }
+    }
+
+    private static Path extract(Options options) throws Exception {
+        Path application = options.workDir.resolve("application");
+        if (!Files.exists(options.jar)) {
+            throw new IllegalStateException(options.jar + " not found, run ./mvnw -Pstartup package -DskipTests");
+        }
+        deleteRecursively(options.workDir);
+        Files.createDirectories(options.workDir);
+        exec(List.of(JAVA, "-Djarmode=tools", "-jar", options.jar.toString(), "extract", "--destination",
+                application.toString()));
+        return application;
+    }
+
+    private static String classpath(Path application) throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (var files = Files.list(application)) {
+            files.filter(file -> file.toString().endsWith(".jar")).forEach(file -> entries.add(file.toString()));
+        }
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            String name = Path.of(entry).getFileName().toString();
+            if (TEST_DRIVERS.stream().anyMatch(name::startsWith) && name.endsWith(".jar")) {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void train(String classpath, Path archive, Options options) throws Exception {
+        List<String> command = new ArrayList<>(List.of(JAVA, "-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh", "-Dspring.flyway.enabled=false"));
+        command.addAll(List.of("-cp", classpath, PruebaTecnicaSeekApplication.class.getName()));
+        command.addAll(properties(options, "training", 0, "fast-startup"));
+        exec(command);
+    }
+
+    private static List<String> command(String mode, String classpath, Path archive, Options options, int run,
+            int port) {
+        if ("native".equals(mode)) {
+            if (!Files.isExecutable(options.nativeImage)) {
+                throw new IllegalStateException(options.nativeImage
+                        + " not found, run ./mvnw -Pnative,local-h2 native:compile -DskipTests");
+            }
+            List<String> command = new ArrayList<>(List.of(options.nativeImage.toString()));
+            command.addAll(properties(options, mode + "-" + run, port, "fast-startup"));
+            return command;
+        }
+        List<String> command = new ArrayList<>(List.of(JAVA));
+        switch (mode) {
+            case "default", "fast-startup" -> {
+            }
+            case "aot" -> command.add("-Dspring.aot.enabled=true");
+            case "cds" -> command.addAll(List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive));
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        command.addAll(options.jvmArgs);
+        command.addAll(List.of("-cp", classpath, PruebaTecnicaSeekApplication.class.getName()));
+        command.addAll(properties(options, mode + "-" + run, port, "default".equals(mode) ? null : "fast-startup"));
+        return command;
+    }
+
+    private static List<String> properties(Options options, String database, int port, String extraProfile) {
+        List<String> profiles = new ArrayList<>(options.profiles);
+        if (extraProfile != null) {
+            profiles.add(extraProfile);
+        }
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=" + port,
+                "--spring.profiles.active=" + String.join(",", profiles),
+                "--spring.datasource.url=jdbc:h2:mem:startup-" + database
+                        + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///startup-" + database
+                        + "?options=MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.r2dbc.username=sa",
+                "--spring.r2dbc.password=",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        properties.addAll(options.properties);
+        return properties;
+    }
+
+    private static Process start(List<String> command) throws IOException {
+        return new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+    }
+
+    private static long timeToFirstRequest(Process process, int port, long start) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"user@email.com\",\"password\":\"password\"}"))
+                .build();
+        long deadline = start + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(login, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (IOException ex) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Application did not answer within 2 minutes");
+    }
+
+    private static LoadTest.Result load(int port, Options options) throws Exception {
+        String baseUrl = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LoadTest.seed(baseUrl, options.seed);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + options.path))
+                .header("Authorization", "Bearer " + LoadTest.login(client, baseUrl))
+                .GET()
+                .build();
+        LoadTest.execute(client, request, options.concurrency, options.warmup);
+        return LoadTest.execute(client, request, options.concurrency, options.requests);
+    }
+
+    private static long residentBytes(Process process) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(kilobytes -> Long.parseLong(kilobytes) * 1024)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static String megabytes(long bytes) {
+        return bytes < 0 ? "-" : Long.toString(bytes / (1024 * 1024));
+    }
+
+    private static void exec(List<String> command) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " exited with code " + exitCode);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((left, right) -> right.compareTo(left)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private record Result(String mode, long minMillis, long p50Millis, long maxMillis, long residentBytes,
+            LoadTest.Result load, long loadedResidentBytes) {
+
+        private static Result of(String mode, long[] timings, long[] residentBytes, LoadTest.Result load,
+                long loadedResidentBytes) {
+            long[] sorted = timings.clone();
+            Arrays.sort(sorted);
+            long[] sortedResident = residentBytes.clone();
+            Arrays.sort(sortedResident);
+            return new Result(mode, sorted[0], sorted[(sorted.length - 1) / 2], sorted[sorted.length - 1],
+                    sortedResident[(sortedResident.length - 1) / 2], load, loadedResidentBytes);
+        }
+    }
+
+    private static final class Options {
+        private Path jar = Path.of("target", "prueba-tecnica-seek-0.0.1-SNAPSHOT.jar");
+        private Path workDir = Path.of("target", "startup-test");
+        private Path nativeImage = Path.of("target", "prueba-tecnica-seek");
+        private List<String> modes = List.of("default", "fast-startup", "aot", "cds");
+        private List<String> profiles = new ArrayList<>();
+        private final List<String> jvmArgs = new ArrayList<>();
+        private final List<String> properties = new ArrayList<>();
+        private int runs = 5;
+        private String path = "/api/v1/clients?limit=20";
+        private int concurrency = 50;
+        private int requests;
+        private int warmup = 2000;
+        private int seed = 1000;
+
+        private static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "-jar" -> options.jar = Path.of(value);
+                    case "-work-dir" -> options.workDir = Path.of(value);
+                    case "-modes" -> options.modes = List.of(value.split(","));
+                    case "-profiles" -> options.profiles = new ArrayList<>(List.of(value.split(",")));
+                    case "-jvm-arg" -> options.jvmArgs.add(value);
+                    case "-property" -> options.properties.add("--" + value);
+                    case "-native" -> options.nativeImage = Path.of(value);
+                    case "-runs" -> options.runs = Integer.parseInt(value);
+                    case "-path" -> options.path = value;
+                    case "-concurrency" -> options.concurrency = Integer.parseInt(value);
+                    case "-requests" -> options.requests = Integer.parseInt(value);
+                    case "-warmup" -> options.warmup = Integer.parseInt(value);
+                    case "-seed" -> options.seed = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+                i++;
+            }
+            return options;
+        }
+    }
+}
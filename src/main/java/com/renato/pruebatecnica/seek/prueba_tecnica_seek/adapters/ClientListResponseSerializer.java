@@ -0,0 +1,65 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import org.springframework.boot.jackson.JsonComponent;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+
+@JsonComponent
+public class ClientListResponseSerializer extends JsonSerializer<ClientListResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString SURNAME = new SerializedString("surname");
+    private static final SerializableString AGE = new SerializedString("age");
+    private static final SerializableString ESTIMATED_DEATH_DATE = new SerializedString("estimatedDeathDate");
+
+    @Override
+    public void serialize(ClientListResponse client, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        write(client, generator);
+    }
+
+    @Override
+    public Class<ClientListResponse> handledType() {
+        return ClientListResponse.class;
+    }
+
+    public static void write(ClientListResponse client, JsonGenerator generator) throws IOException {
+        generator.writeStartObject(client);
+        generator.writeFieldName(ID);
+        if (client.id() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(client.id());
+        }
+        generator.writeFieldName(NAME);
+        generator.writeString(client.name());
+        generator.writeFieldName(SURNAME);
+        generator.writeString(client.surname());
+        generator.writeFieldName(AGE);
+        if (client.age() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(client.age());
+        }
+        generator.writeFieldName(ESTIMATED_DEATH_DATE);
+        writeDate(client.estimatedDeathDate(), generator);
+        generator.writeEndObject();
+    }
+
+    private static void writeDate(LocalDate date, JsonGenerator generator) throws IOException {
+        if (date == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(date.toString());
+        }
+    }
+}
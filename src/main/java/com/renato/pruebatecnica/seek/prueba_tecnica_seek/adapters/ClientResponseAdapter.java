@@ -4,19 +4,38 @@ import java.time.LocalDate;
 
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
 
 @Component
 public class ClientResponseAdapter {
 
+    private static final int LIFE_EXPECTANCY_YEARS = 80;
+    private static final long MAXIMUM_BIRTH_DATES = 60_000;
+
+    private final Cache<LocalDate, LocalDate> estimatedDeathDates = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_BIRTH_DATES)
+            .build();
+
     public ClientListResponse toClientListResponse(Client client) {
-        LocalDate estimatedDeathDate = client.getBirthDate().plusYears(80);
         return new ClientListResponse(
                 client.getId(),
                 client.getName(),
                 client.getSurname(),
                 client.getAge(),
-                estimatedDeathDate);
+                estimatedDeathDate(client.getBirthDate()));
+    }
+
+    LocalDate estimatedDeathDate(LocalDate birthDate) {
+        if (birthDate == null) {
+            return null;
+        }
+        return estimatedDeathDates.get(birthDate, ClientResponseAdapter::addLifeExpectancy);
+    }
+
+    private static LocalDate addLifeExpectancy(LocalDate birthDate) {
+        return birthDate.plusYears(LIFE_EXPECTANCY_YEARS);
     }
 }
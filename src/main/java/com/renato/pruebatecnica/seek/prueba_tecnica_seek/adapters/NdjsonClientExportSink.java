@@ -0,0 +1,29 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientExportSink;
+
+public class NdjsonClientExportSink implements ClientExportSink {
+
+    private final JsonGenerator generator;
+    private final ClientResponseAdapter clientResponseAdapter;
+
+    public NdjsonClientExportSink(JsonGenerator generator, ClientResponseAdapter clientResponseAdapter) {
+        this.generator = generator;
+        this.clientResponseAdapter = clientResponseAdapter;
+    }
+
+    @Override
+    public void write(Client client) throws IOException {
+        ClientListResponseSerializer.write(clientResponseAdapter.toClientListResponse(client), generator);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void endBatch() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,114 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties, Environment environment) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        applyThreadingDefaults(dataSource, environment, null);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("spring.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties,
+            Environment environment) {
+        HikariDataSource dataSource = replicaDataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        applyThreadingDefaults(dataSource, environment,
+                environment.getProperty("db.pool.replica.maximum-pool-size", Integer.class));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry,
+            @Value("${spring.datasource.replica.max-lag-ms:5000}") long maxLagMillis,
+            @Value("${spring.datasource.replica.lag-check-interval-ms:1000}") long checkIntervalMillis) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, meterRegistry, maxLagMillis,
+                checkIntervalMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor, MeterRegistry meterRegistry,
+            @Value("${spring.datasource.replica.enabled:false}") boolean replicaEnabled,
+            ObjectProvider<TomcatVirtualThreadsWebServerFactoryCustomizer> virtualThreadsCustomizer,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            ApplicationContext applicationContext) {
+        if (applicationContext instanceof WebApplicationContext
+                && virtualThreadsEnabled != (virtualThreadsCustomizer.getIfAvailable() != null)) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=" + virtualThreadsEnabled
+                    + " does not match the AOT build; rebuild with -Daot.threads.virtual.enabled="
+                    + virtualThreadsEnabled);
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        DataSource replica = replicaDataSource.getIfAvailable();
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (replicaEnabled != (monitor != null)) {
+            throw new IllegalStateException("spring.datasource.replica.enabled=" + replicaEnabled
+                    + " does not match the AOT build; rebuild with -Daot.replica.enabled=" + replicaEnabled);
+        }
+        if (replica != null && monitor != null) {
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replica, monitor,
+                    meterRegistry.counter("db.replica.fallbacks")));
+        }
+        return dataSource;
+    }
+
+    // Runs before the spring.datasource.*.hikari binding, so explicit pool settings still win.
+    private static void applyThreadingDefaults(HikariDataSource dataSource, Environment environment,
+            Integer maximumPoolSize) {
+        String mode = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                ? "virtual"
+                : "platform";
+        dataSource.setMaximumPoolSize(maximumPoolSize != null
+                ? maximumPoolSize
+                : environment.getProperty("db.pool." + mode + ".maximum-pool-size", Integer.class, 10));
+        dataSource.setConnectionTimeout(
+                environment.getProperty("db.pool." + mode + ".connection-timeout-ms", Long.class, 30000L));
+    }
+}
@@ -0,0 +1,91 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeBucket;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchError;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientPageResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientSubmissionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.LoginRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.RefreshTokenRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.TokenResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.AuditableEntity;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.RevokedToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Role;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ErrorResponse;
+
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static final List<Class<?>> ENTITIES = List.of(AuditableEntity.class, Client.class, User.class, Role.class,
+            RevokedToken.class);
+
+    static final List<Class<?>> DTOS = List.of(AgeBucket.class, AgeDistributionResponse.class,
+            ClientBatchError.class, ClientBatchResponse.class, ClientCreateRequest.class, ClientListResponse.class,
+            ClientPageResponse.class, ClientSubmissionResponse.class, ClientUpdateRequest.class, LoginRequest.class,
+            MetricsResponse.class, RefreshTokenRequest.class, TokenResponse.class, ErrorResponse.class);
+
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.crypto.MacProvider",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    public static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            ENTITIES.forEach(entity -> hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS));
+            bindingRegistrar.registerReflectionHints(hints.reflection(), DTOS.toArray(Class<?>[]::new));
+
+            JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            hints.resources().registerPattern("db/migration/*.sql");
+            hints.resources().registerPattern("db/vendor/*/*.sql");
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+
+            List.of(Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class,
+                    ResultSet.class)
+                    .forEach(jdbcType -> hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType));
+        }
+    }
+}
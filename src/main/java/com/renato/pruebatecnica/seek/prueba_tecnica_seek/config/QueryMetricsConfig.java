@@ -0,0 +1,26 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics.DatabaseQueryCounter;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics.QueryCountFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class QueryMetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(DatabaseQueryCounter databaseQueryCounter,
+            MeterRegistry meterRegistry, @Value("${db.statements.budget:10}") long statementBudget,
+            @Value("${db.statements.track-rows:false}") boolean trackRows) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+                new QueryCountFilter(databaseQueryCounter, meterRegistry, statementBudget, trackRows));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,91 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final String WRITE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+    private volatile long lagMillis = Long.MAX_VALUE;
+    private volatile boolean available;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, MeterRegistry meterRegistry, long maxLagMillis,
+            long checkIntervalMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagMillis == Long.MAX_VALUE
+                ? Double.NaN : monitor.lagMillis / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, monitor -> monitor.available ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    public Duration lag() {
+        return Duration.ofMillis(lagMillis);
+    }
+
+    public void check() {
+        try {
+            Instant written = Instant.now();
+            primary.update(WRITE_HEARTBEAT, Timestamp.from(written));
+            Timestamp replicated = replica.queryForObject(READ_HEARTBEAT, Timestamp.class);
+            lagMillis = replicated != null
+                    ? Math.max(Duration.between(replicated.toInstant(), written).toMillis(), 0)
+                    : Long.MAX_VALUE;
+        } catch (DataAccessException ex) {
+            lagMillis = Long.MAX_VALUE;
+        }
+        available = lagMillis <= maxLagMillis;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        available = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
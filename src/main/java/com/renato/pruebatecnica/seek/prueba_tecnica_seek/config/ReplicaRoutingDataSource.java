@@ -0,0 +1,36 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+            Counter fallbackCounter) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.fallbackCounter = fallbackCounter;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaLagMonitor.isReplicaAvailable()) {
+            return REPLICA;
+        }
+        fallbackCounter.increment();
+        return PRIMARY;
+    }
+}
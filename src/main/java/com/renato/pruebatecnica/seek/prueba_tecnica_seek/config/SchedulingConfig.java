@@ -0,0 +1,9 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
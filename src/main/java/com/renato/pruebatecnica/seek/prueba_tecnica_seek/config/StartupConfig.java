@@ -0,0 +1,67 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.PruebaTecnicaSeekApplication;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    private static final String ROOT_PACKAGE = PruebaTecnicaSeekApplication.class.getPackageName();
+    private static final List<String> EAGER_PACKAGES = List.of("controllers", "services", "repositories", "security",
+            "metrics", "adapters", "validations").stream()
+            .map(name -> ROOT_PACKAGE + "." + name)
+            .toList();
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> DataSource.class.isAssignableFrom(beanType)
+                || EntityManagerFactory.class.isAssignableFrom(beanType)
+                || AbstractEntityManagerFactoryBean.class.isAssignableFrom(beanType)
+                || FlywayMigrationInitializer.class.isAssignableFrom(beanType)
+                || EAGER_PACKAGES.contains(beanType.getPackageName());
+    }
+
+    // Honours spring.flyway.enabled at run time too, since AOT fixes the Flyway beans at build time.
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${spring.flyway.enabled:true}") boolean flywayEnabled) {
+        return flyway -> {
+            if (flywayEnabled) {
+                flyway.migrate();
+            }
+        };
+    }
+
+    @Bean
+    public static BeanFactoryPostProcessor springDocLazyInitialization(Environment environment) {
+        return beanFactory -> {
+            if (!environment.getProperty("spring.main.lazy-initialization", Boolean.class, false)) {
+                return;
+            }
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType != null && beanType.getName().startsWith("org.springdoc.")
+                        && beanFactory.getBeanDefinition(beanName) instanceof AbstractBeanDefinition definition
+                        && Boolean.FALSE.equals(definition.getLazyInit())) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
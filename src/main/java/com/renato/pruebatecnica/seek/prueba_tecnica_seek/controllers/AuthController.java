@@ -1,17 +1,24 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.controllers;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.LoginRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.RefreshTokenRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.TokenResponse;
-import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.UserRepository;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.JwtTokenProvider;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RefreshToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RevokedTokenStore;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentials;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentialsCache;
 
 @RestController
 @RequestMapping("/auth")
@@ -19,25 +26,80 @@ public class AuthController {
 
     private final JwtTokenProvider tokenProvider;
     private final UserRepository userRepository;
+    private final UserCredentialsCache userCredentialsCache;
+    private final PasswordEncoder passwordEncoder;
+    private final RevokedTokenStore revokedTokenStore;
+    private final String unknownUserHash;
 
-    public AuthController(JwtTokenProvider tokenProvider, UserRepository userRepository) {
+    public AuthController(JwtTokenProvider tokenProvider, UserRepository userRepository,
+            UserCredentialsCache userCredentialsCache, PasswordEncoder passwordEncoder,
+            RevokedTokenStore revokedTokenStore) {
         this.tokenProvider = tokenProvider;
         this.userRepository = userRepository;
+        this.userCredentialsCache = userCredentialsCache;
+        this.passwordEncoder = passwordEncoder;
+        this.revokedTokenStore = revokedTokenStore;
+        this.unknownUserHash = passwordEncoder.encode(UUID.randomUUID().toString());
     }
 
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(@RequestBody LoginRequest request) {
-        Optional<User> userOpt = userRepository.findByEmail(request.email());
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            if (user.getPassword().equals(request.password())) {
-                if (user.getRole() == null || user.getRole().getName() == null || user.getRole().getName().isBlank()) {
-                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-                }
-                String token = tokenProvider.generateToken(user.getEmail(), List.of(user.getRole().getName()));
-                return ResponseEntity.ok(new TokenResponse(token));
-            }
-        }
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        if (request.email() == null || request.password() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Optional<UserCredentials> credentialsOpt = userCredentialsCache.find(request.email());
+        if (credentialsOpt.isEmpty()) {
+            passwordEncoder.matches(request.password(), unknownUserHash);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        UserCredentials credentials = credentialsOpt.get();
+        if (!passwordEncoder.matches(request.password(), credentials.passwordHash())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (credentials.role() == null || credentials.role().isBlank()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (passwordEncoder.upgradeEncoding(credentials.passwordHash())) {
+            userRepository.updatePassword(credentials.id(), passwordEncoder.encode(request.password()));
+            userCredentialsCache.evict(credentials.email());
+        }
+        return ResponseEntity.ok(issueTokens(credentials.email(), List.of(credentials.role()), Instant.now()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        Optional<RefreshToken> refreshToken = verifyRefreshToken(request);
+        if (refreshToken.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        RefreshToken token = refreshToken.get();
+        Optional<UserCredentials> credentials = userCredentialsCache.find(token.username())
+                .filter(user -> user.role() != null && !user.role().isBlank());
+        if (credentials.isEmpty() || !revokedTokenStore.revoke(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(issueTokens(credentials.get().email(), List.of(credentials.get().role()),
+                token.authTime()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest request) {
+        verifyRefreshToken(request).ifPresent(revokedTokenStore::revoke);
+        return ResponseEntity.noContent().build();
+    }
+
+    private Optional<RefreshToken> verifyRefreshToken(RefreshTokenRequest request) {
+        if (request.refreshToken() == null) {
+            return Optional.empty();
+        }
+        return tokenProvider.verifyRefreshToken(request.refreshToken())
+                .filter(token -> !revokedTokenStore.isRevoked(token.tokenId()));
+    }
+
+    private TokenResponse issueTokens(String username, List<String> roles, Instant authTime) {
+        return new TokenResponse(
+                tokenProvider.generateToken(username, roles),
+                tokenProvider.generateRefreshToken(username, roles, authTime),
+                tokenProvider.getValidityInSeconds());
     }
 }
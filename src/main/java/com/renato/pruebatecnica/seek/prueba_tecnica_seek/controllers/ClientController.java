@@ -1,36 +1,82 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.controllers;
 
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientResponseAdapter;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.NdjsonClientExportSink;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientPageResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientSubmissionResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
-import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientServiceImpl;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientDatasetVersion;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/clients")
 public class ClientController {
 
-    private final ClientServiceImpl clientService;
+    private final ClientService clientService;
     private final ClientResponseAdapter clientResponseAdapter;
+    private final ObjectMapper objectMapper;
+    private final ClientDatasetVersion clientDatasetVersion;
 
-    public ClientController(ClientServiceImpl clientService, ClientResponseAdapter clientResponseAdapter) {
+    public ClientController(ClientService clientService, ClientResponseAdapter clientResponseAdapter,
+            ObjectMapper objectMapper, ClientDatasetVersion clientDatasetVersion) {
         this.clientService = clientService;
         this.clientResponseAdapter = clientResponseAdapter;
+        this.objectMapper = objectMapper;
+        this.clientDatasetVersion = clientDatasetVersion;
     }
 
     @PostMapping
-    public ResponseEntity<ClientListResponse> createClient(@Valid @RequestBody ClientCreateRequest request) {
+    public ResponseEntity<?> createClient(@Valid @RequestBody ClientCreateRequest request) {
+        if (clientService.isWriteBehindEnabled()) {
+            ClientSubmissionResponse submission = clientService.submitClient(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/clients/submissions/" + submission.trackingId()))
+                    .body(submission);
+        }
         ClientListResponse response = clientResponseAdapter.toClientListResponse(clientService.saveClient(request));
         return ResponseEntity.status(201).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ClientBatchResponse> createClients(@RequestBody List<ClientCreateRequest> requests) {
+        return ResponseEntity.ok(clientService.saveClients(requests));
+    }
+
+    @GetMapping("/submissions/{trackingId}")
+    public ResponseEntity<ClientSubmissionResponse> getSubmission(@PathVariable UUID trackingId) {
+        return ResponseEntity.ok(clientService.getSubmission(trackingId));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ClientListResponse> getClient(@PathVariable Long id) {
+        return ResponseEntity.ok(clientResponseAdapter.toClientListResponse(clientService.findClient(id)));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ClientListResponse> updateClient(
             @PathVariable Long id,
@@ -41,17 +87,44 @@ public class ClientController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ClientListResponse>> listClients() {
-        List<ClientListResponse> clients = clientService.listClients().stream()
-                .map(clientResponseAdapter::toClientListResponse).toList();
-        return ResponseEntity.ok(clients);
+    public ResponseEntity<ClientPageResponse> listClients(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch) {
+        return conditional(ifNoneMatch, () -> {
+            Slice<Client> page = clientService.listClients(after, limit);
+            List<ClientListResponse> clients = page.getContent().stream()
+                    .map(clientResponseAdapter::toClientListResponse).toList();
+            Long nextCursor = page.hasNext() ? clients.get(clients.size() - 1).id() : null;
+            return new ClientPageResponse(clients, nextCursor);
+        });
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportClients() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                clientService.exportClients(new NdjsonClientExportSink(generator, clientResponseAdapter));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @GetMapping("/metrics")
-    public ResponseEntity<MetricsResponse> getMetrics() {
-        double averageAge = clientService.calculateAverageAge();
-        double standardDeviation = clientService.calculateStandardDeviation();
-        return ResponseEntity.ok(new MetricsResponse(averageAge, standardDeviation));
+    public ResponseEntity<MetricsResponse> getMetrics(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch) {
+        // In-memory metrics only reflect this instance's writes, so the shared dataset version cannot tag them.
+        if (!clientService.isMetricsFromDatabase()) {
+            return ResponseEntity.ok(clientService.getMetrics());
+        }
+        return conditional(ifNoneMatch, clientService::getMetrics);
+    }
+
+    @GetMapping("/metrics/distribution")
+    public ResponseEntity<AgeDistributionResponse> getAgeDistribution() {
+        return ResponseEntity.ok(clientService.getAgeDistribution());
     }
 
     @DeleteMapping("/{id}")
@@ -59,4 +132,21 @@ public class ClientController {
         clientService.deleteClient(id);
         return ResponseEntity.noContent().build();
     }
+
+    private <T> ResponseEntity<T> conditional(List<String> ifNoneMatch, Supplier<T> body) {
+        Optional<String> eTag = clientDatasetVersion.eTag();
+        if (eTag.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ifNoneMatch != null && ifNoneMatch.stream().anyMatch(candidate -> matches(candidate, eTag.get()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag.get()).cacheControl(cacheControl).body(body.get());
+    }
+
+    private static boolean matches(String candidate, String eTag) {
+        String trimmed = candidate.trim();
+        return trimmed.equals("*") || (trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed).equals(eTag);
+    }
 }
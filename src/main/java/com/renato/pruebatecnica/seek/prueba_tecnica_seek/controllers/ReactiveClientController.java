@@ -0,0 +1,62 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.controllers;
+
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientResponseAdapter;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ReactiveClientService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/clients")
+public class ReactiveClientController {
+
+    private final ReactiveClientService reactiveClientService;
+    private final ClientResponseAdapter clientResponseAdapter;
+
+    public ReactiveClientController(ReactiveClientService reactiveClientService,
+            ClientResponseAdapter clientResponseAdapter) {
+        this.reactiveClientService = reactiveClientService;
+        this.clientResponseAdapter = clientResponseAdapter;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ClientListResponse>> createClient(@Valid @RequestBody ClientCreateRequest request) {
+        return reactiveClientService.saveClient(request)
+                .map(clientResponseAdapter::toClientListResponse)
+                .map(response -> ResponseEntity.status(201).body(response));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ClientListResponse> updateClient(@PathVariable Long id, @RequestBody ClientUpdateRequest request) {
+        return reactiveClientService.updateClient(id, request)
+                .map(clientResponseAdapter::toClientListResponse);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ClientListResponse> listClients(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        return reactiveClientService.listClients(after, limit)
+                .map(clientResponseAdapter::toClientListResponse);
+    }
+
+    @GetMapping("/metrics")
+    public Mono<MetricsResponse> getMetrics() {
+        return reactiveClientService.getMetrics();
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteClient(@PathVariable Long id) {
+        return reactiveClientService.deleteClient(id)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+}
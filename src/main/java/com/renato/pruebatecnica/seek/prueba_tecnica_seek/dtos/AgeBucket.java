@@ -0,0 +1,4 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
+
+public record AgeBucket(int fromAge, int toAge, long count) {
+}
@@ -0,0 +1,13 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
+
+import java.util.List;
+
+public record AgeDistributionResponse(
+        long count,
+        Integer minAge,
+        Integer maxAge,
+        Integer medianAge,
+        Integer p90Age,
+        Integer p99Age,
+        List<AgeBucket> buckets) {
+}
@@ -0,0 +1,6 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
+
+import java.util.Map;
+
+public record ClientBatchError(int index, String message, Map<String, String> fieldErrors) {
+}
@@ -0,0 +1,6 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
+
+import java.util.List;
+
+public record ClientBatchResponse(int created, List<ClientBatchError> errors) {
+}
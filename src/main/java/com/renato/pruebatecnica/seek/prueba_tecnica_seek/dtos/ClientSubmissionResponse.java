@@ -0,0 +1,8 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
+
+import java.util.UUID;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientSubmissionStatus;
+
+public record ClientSubmissionResponse(UUID trackingId, ClientSubmissionStatus status) {
+}
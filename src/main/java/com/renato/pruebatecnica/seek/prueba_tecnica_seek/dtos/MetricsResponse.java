@@ -1,27 +1,4 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
 
-public class MetricsResponse {
-    private double averageAge;
-    private double standardDeviation;
-
-    public MetricsResponse(double averageAge, double standardDeviation) {
-        this.averageAge = averageAge;
-        this.standardDeviation = standardDeviation;
-    }
-
-    public double getAverageAge() {
-        return averageAge;
-    }
-
-    public void setAverageAge(double averageAge) {
-        this.averageAge = averageAge;
-    }
-
-    public double getStandardDeviation() {
-        return standardDeviation;
-    }
-
-    public void setStandardDeviation(double standardDeviation) {
-        this.standardDeviation = standardDeviation;
-    }
+public record MetricsResponse(double averageAge, double standardDeviation) {
 }
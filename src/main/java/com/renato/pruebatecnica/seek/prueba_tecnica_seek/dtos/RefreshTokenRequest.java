@@ -0,0 +1,6 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(@NotBlank String refreshToken) {
+}
@@ -1,4 +1,4 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos;
 
-public record TokenResponse(String token) {
+public record TokenResponse(String token, String refreshToken, long expiresIn) {
 }
@@ -0,0 +1,24 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "revoked_token")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
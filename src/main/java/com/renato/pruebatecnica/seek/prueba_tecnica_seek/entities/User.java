@@ -5,12 +5,15 @@ import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentialsCacheInvalidator;
+
 import java.time.Instant;
 
 @Entity
 @Table(name = "user")
 @SQLDelete(sql = "UPDATE user SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
+@EntityListeners(UserCredentialsCacheInvalidator.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,8 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions;
+
+public class ClientValidationException extends BusinessException {
+
+    public ClientValidationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
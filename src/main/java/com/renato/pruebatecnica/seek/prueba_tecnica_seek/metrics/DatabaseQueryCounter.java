@@ -0,0 +1,54 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+@Component
+public class DatabaseQueryCounter implements QueryExecutionListener, MethodExecutionListener {
+
+    private final ThreadLocal<long[]> counts = new ThreadLocal<>();
+
+    public void start() {
+        counts.set(new long[2]);
+    }
+
+    public QueryCount stop() {
+        long[] count = counts.get();
+        counts.remove();
+        return count != null ? new QueryCount(count[0], count[1]) : QueryCount.NONE;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        long[] count = counts.get();
+        if (count != null && executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            count[1]++;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.PruebaTecnicaSeekApplication;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ClientValidationException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ValidationException;
+
+@Aspect
+@Component
+public class MethodMetricsAspect {
+
+    private static final String BASE_PACKAGE = PruebaTecnicaSeekApplication.class.getPackageName();
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry meterRegistry,
+            @Value("${metrics.method-timing.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Around("execution(* com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService+.*(..))"
+            + " || execution(* com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.JwtTokenProvider.*(..))"
+            + " || execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timer(joinPoint.getThis().getClass(), joinPoint.getTarget(), method, outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(Class<?> proxyClass, Object target, Method method, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(proxyClass, method, outcome), key -> Timer.builder("app.method")
+                .tag("class", componentName(proxyClass, target))
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static String componentName(Class<?> proxyClass, Object target) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyClass)) {
+            if (type.getPackageName().startsWith(BASE_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return AopUtils.getTargetClass(target).getSimpleName();
+    }
+
+    private static String outcome(Throwable ex) {
+        if (ex instanceof ClientValidationException || ex instanceof ValidationException
+                || ex instanceof MethodArgumentNotValidException) {
+            return "validation_error";
+        }
+        if (ex instanceof BusinessException) {
+            return "business_error";
+        }
+        return "error";
+    }
+
+    private record TimerKey(Class<?> type, Method method, String outcome) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics;
+
+public record QueryCount(long statements, long rows) {
+
+    public static final QueryCount NONE = new QueryCount(0, 0);
+}
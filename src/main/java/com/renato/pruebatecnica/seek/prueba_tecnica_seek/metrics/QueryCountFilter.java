@@ -0,0 +1,71 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryCountFilter.class.getName() + ".QUERY_COUNT";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final DatabaseQueryCounter databaseQueryCounter;
+    private final MeterRegistry meterRegistry;
+    private final long statementBudget;
+    private final boolean trackRows;
+
+    public QueryCountFilter(DatabaseQueryCounter databaseQueryCounter, MeterRegistry meterRegistry,
+            long statementBudget, boolean trackRows) {
+        this.databaseQueryCounter = databaseQueryCounter;
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.trackRows = trackRows;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        databaseQueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount count = databaseQueryCounter.stop();
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, count);
+            record(request, count);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("db.request.queries")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count.statements());
+        if (trackRows) {
+            DistributionSummary.builder("db.request.rows")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(count.rows());
+        }
+        if (count.statements() > statementBudget) {
+            meterRegistry.counter("db.request.budget.exceeded", "method", method, "uri", uri).increment();
+            log.warn("{} {} executed {} statements and fetched {} rows, over the budget of {}",
+                    method, request.getRequestURI(), count.statements(), count.rows(), statementBudget);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Component
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<DatabaseQueryCounter> databaseQueryCounter;
+    private final boolean trackRows;
+
+    public QueryCountingDataSourcePostProcessor(ObjectProvider<DatabaseQueryCounter> databaseQueryCounter,
+            @Value("${db.statements.track-rows:false}") boolean trackRows) {
+        this.databaseQueryCounter = databaseQueryCounter;
+        this.trackRows = trackRows;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                || bean instanceof DelegatingDataSource || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+        DatabaseQueryCounter counter = databaseQueryCounter.getObject();
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(counter);
+        if (trackRows) {
+            builder.proxyResultSet().methodListener(counter);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+public interface ClientAgeAggregate {
+    long getCount();
+
+    Double getAverageAge();
+
+    Double getVariance();
+}
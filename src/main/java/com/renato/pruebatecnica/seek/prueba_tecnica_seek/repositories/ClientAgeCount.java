@@ -0,0 +1,7 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+public interface ClientAgeCount {
+    int getAge();
+
+    long getCount();
+}
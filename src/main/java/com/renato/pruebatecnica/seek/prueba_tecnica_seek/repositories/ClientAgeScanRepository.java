@@ -0,0 +1,5 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+public interface ClientAgeScanRepository {
+    int[] loadAges();
+}
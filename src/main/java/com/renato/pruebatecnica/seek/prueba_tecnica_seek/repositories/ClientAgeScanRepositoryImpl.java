@@ -0,0 +1,50 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class ClientAgeScanRepositoryImpl implements ClientAgeScanRepository {
+
+    private static final String SELECT_LIVE_AGES = "SELECT age FROM client WHERE deleted_at IS NULL";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClientAgeScanRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] loadAges() {
+        AgeBuffer buffer = new AgeBuffer();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_LIVE_AGES);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, buffer);
+        return buffer.toArray();
+    }
+
+    private static final class AgeBuffer implements RowCallbackHandler {
+
+        private int[] ages = new int[1024];
+        private int size;
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            if (size == ages.length) {
+                ages = Arrays.copyOf(ages, size * 2);
+            }
+            ages[size++] = resultSet.getInt(1);
+        }
+
+        private int[] toArray() {
+            return size == ages.length ? ages : Arrays.copyOf(ages, size);
+        }
+    }
+}
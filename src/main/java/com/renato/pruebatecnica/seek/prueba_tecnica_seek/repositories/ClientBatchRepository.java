@@ -0,0 +1,9 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+import java.util.List;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+public interface ClientBatchRepository {
+    int insertAll(List<Client> clients);
+}
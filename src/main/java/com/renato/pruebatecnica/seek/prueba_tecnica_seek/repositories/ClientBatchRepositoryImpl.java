@@ -0,0 +1,43 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+public class ClientBatchRepositoryImpl implements ClientBatchRepository {
+
+    private static final String INSERT_CLIENT = "INSERT INTO client "
+            + "(name, surname, age, birth_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+
+    public ClientBatchRepositoryImpl(JdbcTemplate jdbcTemplate,
+            @Value("${client.batch.jdbc-batch-size:500}") int jdbcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @Override
+    public int insertAll(List<Client> clients) {
+        if (clients.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_CLIENT, clients, jdbcBatchSize, (statement, client) -> {
+            statement.setString(1, client.getName());
+            statement.setString(2, client.getSurname());
+            statement.setInt(3, client.getAge());
+            statement.setDate(4, Date.valueOf(client.getBirthDate()));
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+        });
+        return clients.size();
+    }
+}
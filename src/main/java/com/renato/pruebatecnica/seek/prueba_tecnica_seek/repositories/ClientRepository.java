@@ -1,9 +1,58 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {
-}
\ No newline at end of file
+public interface ClientRepository extends JpaRepository<Client, Long>, ClientBatchRepository,
+        ClientAgeScanRepository {
+
+    Slice<Client> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Client> streamAllByOrderByIdAsc();
+
+    @Query("SELECT c.age AS age, COUNT(c) AS count FROM Client c GROUP BY c.age")
+    List<ClientAgeCount> countByAge();
+
+    @Query("SELECT COUNT(c) AS count, AVG(CAST(c.age AS double)) AS averageAge, "
+            + "VAR_POP(CAST(c.age AS double)) AS variance FROM Client c")
+    ClientAgeAggregate aggregateAgeMetrics();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Client c WHERE c.id = :id")
+    Optional<Client> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Client c SET c.name = COALESCE(:name, c.name), c.surname = COALESCE(:surname, c.surname), "
+            + "c.age = COALESCE(:age, c.age), c.birthDate = COALESCE(:birthDate, c.birthDate), "
+            + "c.updatedAt = :updatedAt WHERE c.id = :id AND c.deletedAt IS NULL")
+    int updateFields(@Param("id") Long id, @Param("name") String name, @Param("surname") String surname,
+            @Param("age") Integer age, @Param("birthDate") LocalDate birthDate,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("UPDATE Client c SET c.deletedAt = :deletedAt WHERE c.id = :id AND c.deletedAt IS NULL")
+    int softDeleteById(@Param("id") Long id, @Param("deletedAt") Instant deletedAt);
+}
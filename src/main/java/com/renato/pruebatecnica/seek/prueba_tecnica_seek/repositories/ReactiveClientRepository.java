@@ -0,0 +1,128 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ReactiveClientRepository {
+
+    private static final String CLIENT_COLUMNS = "id, name, surname, age, birth_date";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveClientRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Client> insert(Client client) {
+        Instant now = Instant.now();
+        return databaseClient.sql("INSERT INTO client (name, surname, age, birth_date, created_at, updated_at) "
+                + "VALUES (:name, :surname, :age, :birthDate, :createdAt, :updatedAt)")
+                .bind("name", client.getName())
+                .bind("surname", client.getSurname())
+                .bind("age", client.getAge())
+                .bind("birthDate", client.getBirthDate())
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    client.setId(id);
+                    return client;
+                });
+    }
+
+    public Mono<Client> findLiveByIdForUpdate(Long id) {
+        return databaseClient.sql("SELECT " + CLIENT_COLUMNS + " FROM client WHERE id = :id AND deleted_at IS NULL "
+                + "FOR UPDATE")
+                .bind("id", id)
+                .map(ReactiveClientRepository::toClient)
+                .one();
+    }
+
+    public Flux<Client> findLiveAfter(long after, Integer limit) {
+        String sql = "SELECT " + CLIENT_COLUMNS + " FROM client WHERE deleted_at IS NULL AND id > :after ORDER BY id";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(limit != null ? sql + " LIMIT :limit" : sql)
+                .bind("after", after);
+        if (limit != null) {
+            spec = spec.bind("limit", limit);
+        }
+        return spec.map(ReactiveClientRepository::toClient).all();
+    }
+
+    public Mono<Long> updateFields(Long id, String name, String surname, Integer age, LocalDate birthDate) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("UPDATE client SET "
+                + "name = COALESCE(:name, name), surname = COALESCE(:surname, surname), age = COALESCE(:age, age), "
+                + "birth_date = COALESCE(:birthDate, birth_date), updated_at = :updatedAt "
+                + "WHERE id = :id AND deleted_at IS NULL");
+        spec = bindNullable(spec, "name", name, String.class);
+        spec = bindNullable(spec, "surname", surname, String.class);
+        spec = bindNullable(spec, "age", age, Integer.class);
+        spec = bindNullable(spec, "birthDate", birthDate, LocalDate.class);
+        return spec.bind("updatedAt", Instant.now())
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> softDeleteById(Long id) {
+        return databaseClient.sql("UPDATE client SET deleted_at = :deletedAt WHERE id = :id AND deleted_at IS NULL")
+                .bind("deletedAt", Instant.now())
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> bumpDatasetVersion(Instant changedAt) {
+        return databaseClient.sql("UPDATE client_dataset_version SET version = version + 1, changed_at = :changedAt "
+                + "WHERE id = 1")
+                .bind("changedAt", changedAt)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("SELECT version FROM client_dataset_version WHERE id = 1")
+                        .map(row -> row.get("version", Long.class))
+                        .one());
+    }
+
+    public Mono<MetricsResponse> aggregateAgeMetrics() {
+        return databaseClient.sql("SELECT COUNT(*) AS client_count, AVG(CAST(age AS DOUBLE)) AS average_age, "
+                + "VAR_POP(CAST(age AS DOUBLE)) AS variance FROM client WHERE deleted_at IS NULL")
+                .map(row -> {
+                    Number count = row.get("client_count", Number.class);
+                    Number average = row.get("average_age", Number.class);
+                    Number variance = row.get("variance", Number.class);
+                    if (count == null || count.longValue() == 0 || average == null) {
+                        return new MetricsResponse(0, 0);
+                    }
+                    double populationVariance = variance != null ? Math.max(variance.doubleValue(), 0) : 0;
+                    return new MetricsResponse(average.doubleValue(), Math.sqrt(populationVariance));
+                })
+                .one();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+            Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static Client toClient(Readable row) {
+        return Client.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .surname(row.get("surname", String.class))
+                .age(row.get("age", Integer.class))
+                .birthDate(row.get("birth_date", LocalDate.class))
+                .build();
+    }
+}
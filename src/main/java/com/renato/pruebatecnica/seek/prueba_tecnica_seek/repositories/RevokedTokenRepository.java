@@ -0,0 +1,31 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.RevokedToken;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    List<RevokedToken> findByExpiresAtAfterOrderByExpiresAtDesc(Instant now, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO revoked_token (token_id, expires_at, revoked_at) VALUES (:tokenId, :expiresAt, :revokedAt)",
+            nativeQuery = true)
+    int insert(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt,
+            @Param("revokedAt") Instant revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
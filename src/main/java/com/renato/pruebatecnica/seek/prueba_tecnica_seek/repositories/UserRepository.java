@@ -3,11 +3,21 @@ package com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
@@ -0,0 +1,7 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+import java.time.Instant;
+import java.util.List;
+
+public record AuthenticatedToken(String username, List<String> roles, Instant expiresAt) {
+}
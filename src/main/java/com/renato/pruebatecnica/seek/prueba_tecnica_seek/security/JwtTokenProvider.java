@@ -2,44 +2,150 @@ package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String AUTH_TIME_CLAIM = "auth_time";
 
-    @Value("${jwt.expiration}")
-    private long validityInSeconds;
+    private final long validityInSeconds;
+    private final long refreshValidityInSeconds;
+    private final long maxSessionInSeconds;
+    private final String keyId;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration}") long validityInSeconds,
+            @Value("${jwt.refresh-expiration:604800}") long refreshValidityInSeconds,
+            @Value("${jwt.key-id:current}") String keyId,
+            @Value("${jwt.previous-secret:}") String previousSecret,
+            @Value("${jwt.previous-key-id:previous}") String previousKeyId,
+            @Value("${jwt.max-session:2592000}") long maxSessionInSeconds) {
+        this.validityInSeconds = validityInSeconds;
+        this.refreshValidityInSeconds = refreshValidityInSeconds;
+        this.maxSessionInSeconds = maxSessionInSeconds;
+        this.keyId = keyId;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(keyId, signingKey);
+        if (StringUtils.hasText(previousSecret)) {
+            if (previousKeyId.equals(keyId)) {
+                throw new IllegalStateException("jwt.previous-key-id must differ from jwt.key-id");
+            }
+            keys.put(previousKeyId, Keys.hmacShaKeyFor(previousSecret.getBytes()));
+        }
+        this.verificationKeys = Map.copyOf(keys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     public String generateToken(String username, List<String> roles) {
         Instant now = Instant.now();
         Instant expiry = now.plusSeconds(validityInSeconds);
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setSubject(username)
                 .claim("roles", roles)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public String generateRefreshToken(String username, List<String> roles) {
+        return generateRefreshToken(username, roles, Instant.now());
+    }
+
+    public String generateRefreshToken(String username, List<String> roles, Instant authTime) {
+        Instant now = Instant.now();
+        Instant sessionEnd = authTime.plusSeconds(maxSessionInSeconds);
+        Instant expiry = now.plusSeconds(refreshValidityInSeconds);
+        if (expiry.isAfter(sessionEnd)) {
+            expiry = sessionEnd;
+        }
+
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(username)
+                .claim("roles", roles)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(AUTH_TIME_CLAIM, authTime.getEpochSecond())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(expiry))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public long getValidityInSeconds() {
+        return validityInSeconds;
+    }
+
+    public Optional<AuthenticatedToken> verify(String token) {
+        try {
+            Claims claims = parseClaims(token).getBody();
+            if (isRefreshToken(claims) || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new AuthenticatedToken(claims.getSubject(), getRoles(claims),
+                    claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    public Optional<RefreshToken> verifyRefreshToken(String token) {
+        try {
+            Claims claims = parseClaims(token).getBody();
+            if (!isRefreshToken(claims) || claims.getId() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            Instant authTime = getAuthTime(claims);
+            if (authTime == null || !authTime.plusSeconds(maxSessionInSeconds).isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshToken(claims.getId(), claims.getSubject(), getRoles(claims),
+                    claims.getExpiration().toInstant(), authTime));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
     public String getUsername(String token) {
         return parseClaims(token).getBody().getSubject();
     }
 
     public List<String> getRoles(String token) {
-        Claims claims = parseClaims(token).getBody();
+        return getRoles(parseClaims(token).getBody());
+    }
+
+    private List<String> getRoles(Claims claims) {
         Object roles = claims.get("roles");
         if (roles instanceof List<?> list) {
             return list.stream()
@@ -50,17 +156,34 @@ public class JwtTokenProvider {
         return Collections.emptyList();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException ex) {
-            return false;
+    private Instant getAuthTime(Claims claims) {
+        Object authTime = claims.get(AUTH_TIME_CLAIM);
+        if (authTime instanceof Number seconds) {
+            return Instant.ofEpochSecond(seconds.longValue());
         }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
     }
 
     private Jws<Claims> parseClaims(String token) {
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
+    }
+
+    private Key resolveKey(String tokenKeyId) {
+        if (tokenKeyId == null) {
+            return signingKey;
+        }
+        Key key = verificationKeys.get(tokenKeyId);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id");
+        }
+        return key;
     }
 }
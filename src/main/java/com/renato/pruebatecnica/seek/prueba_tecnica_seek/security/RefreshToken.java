@@ -0,0 +1,8 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+import java.time.Instant;
+import java.util.List;
+
+public record RefreshToken(String tokenId, String username, List<String> roles, Instant expiresAt,
+        Instant authTime) {
+}
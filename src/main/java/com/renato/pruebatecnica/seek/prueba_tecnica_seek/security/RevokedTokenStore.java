@@ -0,0 +1,92 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class RevokedTokenStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Cache<String, Instant> revoked;
+    private final int maximumSize;
+
+    // The cache only short-cuts known replays: the primary key on revoked_token is the single-use check, so an
+    // evicted entry is still rejected by revoke().
+    public RevokedTokenStore(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry,
+            @Value("${jwt.revoked.cache.maximum-size:100000}") int maximumSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.maximumSize = Math.max(maximumSize, 1);
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(this.maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        Gauge.builder("jwt.revoked-tokens", revoked, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        revoked.invalidateAll();
+        revokedTokenRepository.findByExpiresAtAfterOrderByExpiresAtDesc(now, Limit.of(maximumSize))
+                .forEach(token -> revoked.put(token.getTokenId(), token.getExpiresAt()));
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revoked.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${jwt.revoked.cleanup-interval-ms:3600000}")
+    public int deleteExpired() {
+        return revokedTokenRepository.deleteExpired(Instant.now());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return revoked.getIfPresent(tokenId) != null;
+    }
+
+    public boolean revoke(RefreshToken token) {
+        if (isRevoked(token.tokenId())) {
+            return false;
+        }
+        boolean inserted;
+        try {
+            inserted = revokedTokenRepository.insert(token.tokenId(), token.expiresAt(), Instant.now()) == 1;
+        } catch (DataIntegrityViolationException ex) {
+            inserted = false;
+        }
+        revoked.put(token.tokenId(), token.expiresAt());
+        return inserted;
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String key, Instant expiresAt, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), expiresAt).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Instant expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -13,10 +15,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
-        private final JwtTokenProvider tokenProvider;
+        private final VerifiedTokenCache verifiedTokenCache;
 
-        public SecurityConfig(JwtTokenProvider tokenProvider) {
-                this.tokenProvider = tokenProvider;
+        public SecurityConfig(VerifiedTokenCache verifiedTokenCache) {
+                this.verifiedTokenCache = verifiedTokenCache;
         }
 
         @Bean
@@ -44,10 +46,11 @@ public class SecurityConfig {
         @Bean
         @Order(3)
         public SecurityFilterChain apiChain(HttpSecurity http) throws Exception {
-                JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(tokenProvider);
+                JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(verifiedTokenCache);
                 http.securityMatcher("/api/**")
                                 .authorizeHttpRequests(auth -> auth
-                                                .requestMatchers("/api/v1/clients/**").hasRole("ADMIN")
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                                .requestMatchers("/api/v1/clients/**", "/api/v2/clients/**").hasRole("ADMIN")
                                                 .anyRequest().authenticated())
                                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                                 .csrf(csrf -> csrf.disable())
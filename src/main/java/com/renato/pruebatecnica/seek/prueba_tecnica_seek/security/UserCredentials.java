@@ -0,0 +1,4 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+public record UserCredentials(Long id, String email, String passwordHash, String role) {
+}
@@ -0,0 +1,68 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class UserCredentialsCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserCredentials> cache;
+
+    public UserCredentialsCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${auth.cache.maximum-size:1000}") long maximumSize,
+            @Value("${auth.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.user-credentials");
+    }
+
+    public Optional<UserCredentials> find(String email) {
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findByEmail(key)
+                .map(UserCredentialsCache::toCredentials)
+                .orElse(null)));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    public void clearAfterCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                clear();
+            }
+        });
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static UserCredentials toCredentials(User user) {
+        String role = user.getRole() != null ? user.getRole().getName() : null;
+        return new UserCredentials(user.getId(), user.getEmail(), user.getPassword(), role);
+    }
+}
@@ -0,0 +1,27 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+@Component
+public class UserCredentialsCacheInvalidator {
+
+    private final UserCredentialsCache userCredentialsCache;
+
+    public UserCredentialsCacheInvalidator(@Lazy UserCredentialsCache userCredentialsCache) {
+        this.userCredentialsCache = userCredentialsCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void userChanged(User user) {
+        userCredentialsCache.clearAfterCompletion();
+    }
+}
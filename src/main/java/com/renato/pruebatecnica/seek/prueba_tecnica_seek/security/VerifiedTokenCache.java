@@ -0,0 +1,74 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, AuthenticatedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider, MeterRegistry meterRegistry,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.tokenProvider = tokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    public Optional<AuthenticatedToken> verify(String token) {
+        AuthenticatedToken verified = cache.get(digest(token), key -> tokenProvider.verify(token).orElse(null));
+        if (verified == null || !verified.expiresAt().isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, AuthenticatedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, AuthenticatedToken value, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), value.expiresAt()).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AuthenticatedToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AuthenticatedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
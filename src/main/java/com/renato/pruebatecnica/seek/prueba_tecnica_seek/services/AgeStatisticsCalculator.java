@@ -0,0 +1,83 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AgeStatisticsCalculator {
+
+    private final int parallelThreshold;
+
+    public AgeStatisticsCalculator(@Value("${client.metrics.parallel-threshold:1000000}") int parallelThreshold) {
+        this.parallelThreshold = Math.max(parallelThreshold, 1);
+    }
+
+    public AgeSummary summarize(int[] ages) {
+        return summarize(ages, ages.length);
+    }
+
+    public AgeSummary summarize(int[] ages, int length) {
+        if (length <= 0) {
+            return new AgeSummary(0, 0, 0);
+        }
+        long ageSum;
+        long ageSquareSum;
+        if (length < parallelThreshold) {
+            ageSum = 0;
+            ageSquareSum = 0;
+            for (int i = 0; i < length; i++) {
+                int age = ages[i];
+                ageSum += age;
+                ageSquareSum += (long) age * age;
+            }
+        } else {
+            Totals totals = ForkJoinPool.commonPool().invoke(new TotalsTask(ages, 0, length, parallelThreshold));
+            ageSum = totals.ageSum();
+            ageSquareSum = totals.ageSquareSum();
+        }
+        return new AgeSummary(length, (double) ageSum / length,
+                ClientAgeStatistics.variance(length, ageSum, ageSquareSum));
+    }
+
+    private record Totals(long ageSum, long ageSquareSum) {
+    }
+
+    private static final class TotalsTask extends RecursiveTask<Totals> {
+
+        private final int[] ages;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private TotalsTask(int[] ages, int from, int to, int threshold) {
+            this.ages = ages;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Totals compute() {
+            int leafSize = Math.max(threshold / ForkJoinPool.getCommonPoolParallelism(), 4096);
+            if (to - from <= leafSize) {
+                long ageSum = 0;
+                long ageSquareSum = 0;
+                for (int i = from; i < to; i++) {
+                    int age = ages[i];
+                    ageSum += age;
+                    ageSquareSum += (long) age * age;
+                }
+                return new Totals(ageSum, ageSquareSum);
+            }
+            int middle = (from + to) >>> 1;
+            TotalsTask left = new TotalsTask(ages, from, middle, threshold);
+            left.fork();
+            Totals right = new TotalsTask(ages, middle, to, threshold).compute();
+            Totals leftTotals = left.join();
+            return new Totals(leftTotals.ageSum() + right.ageSum(), leftTotals.ageSquareSum() + right.ageSquareSum());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+public record AgeSummary(long count, double mean, double variance) {
+
+    public double standardDeviation() {
+        return Math.sqrt(variance);
+    }
+}
@@ -0,0 +1,189 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeBucket;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientAgeCount;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+
+@Component
+public class ClientAgeStatistics implements SmartLifecycle {
+
+    public static final int MAX_TRACKED_AGE = 150;
+
+    private final ClientRepository clientRepository;
+
+    private long count;
+    private long ageSum;
+    private long ageSquareSum;
+    private final long[] ageCounts = new long[MAX_TRACKED_AGE + 1];
+    private boolean ready;
+    private volatile boolean running;
+
+    public ClientAgeStatistics(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    // The GROUP BY runs outside the monitor, so after-commit updates are not blocked while it scans the table.
+    public void rebuild() {
+        reset(clientRepository.countByAge());
+    }
+
+    // Rebuilds before the web server and the write-behind writer start, so no write can commit between the
+    // snapshot and reset() and then be counted a second time by its after-commit add().
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    public synchronized void reset(List<ClientAgeCount> countsByAge) {
+        count = 0;
+        ageSum = 0;
+        ageSquareSum = 0;
+        Arrays.fill(ageCounts, 0);
+        for (ClientAgeCount ageCount : countsByAge) {
+            long occurrences = ageCount.getCount();
+            int age = ageCount.getAge();
+            count += occurrences;
+            ageSum += age * occurrences;
+            ageSquareSum += (long) age * age * occurrences;
+            ageCounts[bucketOf(age)] += occurrences;
+        }
+        ready = true;
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void add(int age) {
+        count++;
+        ageSum += age;
+        ageSquareSum += (long) age * age;
+        ageCounts[bucketOf(age)]++;
+    }
+
+    public synchronized void remove(int age) {
+        count--;
+        ageSum -= age;
+        ageSquareSum -= (long) age * age;
+        ageCounts[bucketOf(age)]--;
+    }
+
+    public synchronized void replace(int previousAge, int newAge) {
+        ageSum += newAge - previousAge;
+        ageSquareSum += (long) newAge * newAge - (long) previousAge * previousAge;
+        ageCounts[bucketOf(previousAge)]--;
+        ageCounts[bucketOf(newAge)]++;
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized double averageAge() {
+        if (count <= 0) {
+            return 0;
+        }
+        return (double) ageSum / count;
+    }
+
+    public synchronized double standardDeviation() {
+        if (count <= 0) {
+            return 0;
+        }
+        return Math.sqrt(variance(count, ageSum, ageSquareSum));
+    }
+
+    public synchronized AgeDistributionResponse distribution(int bucketWidth) {
+        return distribution(ageCounts, count, bucketWidth);
+    }
+
+    public static AgeDistributionResponse distributionOf(List<ClientAgeCount> countsByAge, int bucketWidth) {
+        long[] counts = new long[MAX_TRACKED_AGE + 1];
+        long total = 0;
+        for (ClientAgeCount ageCount : countsByAge) {
+            counts[bucketOf(ageCount.getAge())] += ageCount.getCount();
+            total += ageCount.getCount();
+        }
+        return distribution(counts, total, bucketWidth);
+    }
+
+    private static AgeDistributionResponse distribution(long[] ageCounts, long count, int bucketWidth) {
+        int minAge = 0;
+        while (minAge <= MAX_TRACKED_AGE && ageCounts[minAge] <= 0) {
+            minAge++;
+        }
+        if (count <= 0 || minAge > MAX_TRACKED_AGE) {
+            return new AgeDistributionResponse(0, null, null, null, null, null, List.of());
+        }
+        int maxAge = MAX_TRACKED_AGE;
+        while (maxAge > minAge && ageCounts[maxAge] <= 0) {
+            maxAge--;
+        }
+
+        List<AgeBucket> buckets = new ArrayList<>();
+        for (int from = minAge - minAge % bucketWidth; from <= maxAge; from += bucketWidth) {
+            int to = Math.min(from + bucketWidth - 1, MAX_TRACKED_AGE);
+            long bucketCount = 0;
+            for (int age = from; age <= to; age++) {
+                bucketCount += Math.max(ageCounts[age], 0);
+            }
+            buckets.add(new AgeBucket(from, to, bucketCount));
+        }
+
+        return new AgeDistributionResponse(count, minAge, maxAge,
+                percentile(ageCounts, count, 0.5), percentile(ageCounts, count, 0.9),
+                percentile(ageCounts, count, 0.99), buckets);
+    }
+
+    private static int percentile(long[] ageCounts, long count, double quantile) {
+        long rank = Math.max((long) Math.ceil(quantile * count), 1);
+        long cumulative = 0;
+        for (int age = 0; age < MAX_TRACKED_AGE; age++) {
+            cumulative += Math.max(ageCounts[age], 0);
+            if (cumulative >= rank) {
+                return age;
+            }
+        }
+        return MAX_TRACKED_AGE;
+    }
+
+    private static int bucketOf(int age) {
+        return Math.min(Math.max(age, 0), MAX_TRACKED_AGE);
+    }
+
+    static double variance(long count, long ageSum, long ageSquareSum) {
+        try {
+            long scaledVariance = Math.subtractExact(
+                    Math.multiplyExact(count, ageSquareSum),
+                    Math.multiplyExact(ageSum, ageSum));
+            return (double) scaledVariance / count / count;
+        } catch (ArithmeticException overflow) {
+            double mean = (double) ageSum / count;
+            return Math.max((double) ageSquareSum / count - mean * mean, 0);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class ClientCache {
+
+    private final ClientRepository clientRepository;
+    private final Cache<Long, Client> cache;
+
+    public ClientCache(ClientRepository clientRepository, MeterRegistry meterRegistry,
+            @Value("${client.cache.maximum-size:10000}") long maximumSize,
+            @Value("${client.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.clientRepository = clientRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "clients.by-id");
+    }
+
+    public Optional<Client> find(Long id) {
+        Client cached = cache.get(id, key -> clientRepository.findById(key).map(ClientCache::copy).orElse(null));
+        return Optional.ofNullable(cached).map(ClientCache::copy);
+    }
+
+    public void put(Client client) {
+        cache.put(client.getId(), copy(client));
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static Client copy(Client client) {
+        return Client.builder()
+                .id(client.getId())
+                .name(client.getName())
+                .surname(client.getSurname())
+                .age(client.getAge())
+                .birthDate(client.getBirthDate())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ClientDatasetVersion {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientDatasetVersion.class);
+
+    private static final String BUMP_VERSION =
+            "UPDATE client_dataset_version SET version = version + 1, changed_at = ? WHERE id = 1";
+    private static final String READ_VERSION = "SELECT version FROM client_dataset_version WHERE id = 1";
+    private static final String READ_SNAPSHOT = "SELECT version, changed_at FROM client_dataset_version WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate bumpTransaction;
+    private final long cacheNanos;
+    private final Duration settle;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public ClientDatasetVersion(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            @Value("${client.etag.version-cache-ms:1000}") long versionCacheMillis,
+            @Value("${spring.datasource.replica.enabled:false}") boolean replicaEnabled,
+            @Value("${spring.datasource.replica.max-lag-ms:5000}") long replicaMaxLagMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(versionCacheMillis, 0));
+        this.settle = replicaEnabled ? Duration.ofMillis(replicaMaxLagMillis) : Duration.ZERO;
+    }
+
+    // Runs after the caller's write commits, in its own short transaction, so writers never hold the version row
+    // lock for the length of their own transaction. A rolled-back write never bumps; a crash between the commit and
+    // the bump leaves the old ETag until the next write.
+    public void bump() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment();
+            }
+        });
+    }
+
+    public void publish(long version, Instant changedAt) {
+        store(new Snapshot(version, changedAt, System.nanoTime()));
+    }
+
+    public Optional<String> eTag() {
+        Snapshot current = snapshot.get();
+        if (current == null || System.nanoTime() - current.loadedAtNanos() >= cacheNanos) {
+            current = load();
+        }
+        if (settle.isPositive() && Duration.between(current.changedAt(), Instant.now()).compareTo(settle) < 0) {
+            return Optional.empty();
+        }
+        return Optional.of("\"" + current.version() + "\"");
+    }
+
+    private void increment() {
+        Instant changedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        try {
+            Long version = bumpTransaction.execute(status -> {
+                jdbcTemplate.update(BUMP_VERSION, Timestamp.from(changedAt));
+                return jdbcTemplate.queryForObject(READ_VERSION, Long.class);
+            });
+            publish(version, changedAt);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to bump the client dataset version; ETags stay on the previous version", ex);
+        }
+    }
+
+    private Snapshot load() {
+        long loadedAtNanos = System.nanoTime();
+        return store(jdbcTemplate.queryForObject(READ_SNAPSHOT, (rs, rowNum) -> new Snapshot(
+                rs.getLong("version"), rs.getTimestamp("changed_at").toInstant(), loadedAtNanos)));
+    }
+
+    private Snapshot store(Snapshot candidate) {
+        return snapshot.accumulateAndGet(candidate,
+                (current, next) -> current != null && current.version() > next.version() ? current : next);
+    }
+
+    private record Snapshot(long version, Instant changedAt, long loadedAtNanos) {
+    }
+}
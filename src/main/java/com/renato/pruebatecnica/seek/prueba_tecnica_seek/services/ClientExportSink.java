@@ -0,0 +1,11 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.io.IOException;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+public interface ClientExportSink {
+    void write(Client client) throws IOException;
+
+    void endBatch() throws IOException;
+}
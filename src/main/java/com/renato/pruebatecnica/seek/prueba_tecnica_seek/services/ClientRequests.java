@@ -0,0 +1,35 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+final class ClientRequests {
+
+    private ClientRequests() {
+    }
+
+    static Client toClient(ClientCreateRequest request) {
+        return Client.builder()
+                .name(request.getName())
+                .surname(request.getSurname())
+                .age(request.getAge())
+                .birthDate(request.getBirthDate())
+                .build();
+    }
+
+    static void applyUpdate(Client client, ClientUpdateRequest request) {
+        if (request.getName() != null) {
+            client.setName(request.getName());
+        }
+        if (request.getSurname() != null) {
+            client.setSurname(request.getSurname());
+        }
+        if (request.getAge() != null) {
+            client.setAge(request.getAge());
+        }
+        if (request.getBirthDate() != null) {
+            client.setBirthDate(request.getBirthDate());
+        }
+    }
+}
@@ -1,21 +1,47 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.data.domain.Slice;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientSubmissionResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
 
 public interface ClientService {
     public Client saveClient(ClientCreateRequest request);
 
+    public boolean isWriteBehindEnabled();
+
+    public boolean isMetricsFromDatabase();
+
+    public ClientSubmissionResponse submitClient(ClientCreateRequest request);
+
+    public ClientSubmissionResponse getSubmission(UUID trackingId);
+
+    public ClientBatchResponse saveClients(List<ClientCreateRequest> requests);
+
+    public Client findClient(Long id);
+
     public Client updateClient(Long id, ClientUpdateRequest request);
 
     public void deleteClient(Long id);
 
-    public List<Client> listClients();
+    public Slice<Client> listClients(Long after, Integer limit);
+
+    public void exportClients(ClientExportSink sink) throws IOException;
 
     public double calculateAverageAge();
 
     public double calculateStandardDeviation();
+
+    public MetricsResponse getMetrics();
+
+    public AgeDistributionResponse getAgeDistribution();
 }
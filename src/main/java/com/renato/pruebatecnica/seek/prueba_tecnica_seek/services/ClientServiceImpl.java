@@ -1,97 +1,272 @@
 package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchError;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientSubmissionResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientAgeAggregate;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.validations.ClientValidation;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
     private final ClientValidation clientValidation;
+    private final ClientAgeStatistics clientAgeStatistics;
+    private final AgeStatisticsCalculator ageStatisticsCalculator;
+    private final ClientCache clientCache;
+    private final ClientWriteBehindQueue clientWriteBehindQueue;
+    private final ClientDatasetVersion clientDatasetVersion;
+    private final EntityManager entityManager;
+    private final ClientMetricsSource metricsSource;
+    private final int histogramBucketWidth;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int exportBatchSize;
+    private final int maxBatchSize;
     private final Counter clientCreationCounter;
 
     public ClientServiceImpl(ClientRepository clientRepository, ClientValidation clientValidation,
-            MeterRegistry meterRegistry) {
+            ClientAgeStatistics clientAgeStatistics, AgeStatisticsCalculator ageStatisticsCalculator,
+            ClientCache clientCache, ClientWriteBehindQueue clientWriteBehindQueue,
+            ClientDatasetVersion clientDatasetVersion,
+            EntityManager entityManager, MeterRegistry meterRegistry,
+            @Value("${client.metrics.source:memory}") ClientMetricsSource metricsSource,
+            @Value("${client.metrics.histogram-bucket-width:10}") int histogramBucketWidth,
+            @Value("${client.list.default-page-size:20}") int defaultPageSize,
+            @Value("${client.list.max-page-size:100}") int maxPageSize,
+            @Value("${client.export.batch-size:1000}") int exportBatchSize,
+            @Value("${client.batch.max-size:10000}") int maxBatchSize) {
         this.clientRepository = clientRepository;
         this.clientValidation = clientValidation;
+        this.clientAgeStatistics = clientAgeStatistics;
+        this.ageStatisticsCalculator = ageStatisticsCalculator;
+        this.clientCache = clientCache;
+        this.clientWriteBehindQueue = clientWriteBehindQueue;
+        this.clientDatasetVersion = clientDatasetVersion;
+        this.entityManager = entityManager;
+        this.metricsSource = metricsSource;
+        this.histogramBucketWidth = Math.max(histogramBucketWidth, 1);
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.exportBatchSize = exportBatchSize;
+        this.maxBatchSize = maxBatchSize;
         this.clientCreationCounter = meterRegistry.counter("client.creations.total");
-        ;
     }
 
     @Transactional
     public Client saveClient(ClientCreateRequest request) {
         clientValidation.validateCreateClientBody(request);
-        Client client = Client.builder()
-                .name(request.getName())
-                .surname(request.getSurname())
-                .age(request.getAge())
-                .birthDate(request.getBirthDate())
-                .build();
-        Client savedClient = clientRepository.save(client);
+        Client savedClient = clientRepository.save(ClientRequests.toClient(request));
 
         clientCreationCounter.increment();
+        int age = savedClient.getAge();
+        afterCommit(() -> {
+            clientAgeStatistics.add(age);
+            clientCache.put(savedClient);
+        });
+        clientDatasetVersion.bump();
 
         return savedClient;
     }
 
+    public boolean isWriteBehindEnabled() {
+        return clientWriteBehindQueue.isEnabled();
+    }
+
+    public boolean isMetricsFromDatabase() {
+        return metricsSource != ClientMetricsSource.MEMORY || !clientAgeStatistics.isReady();
+    }
+
+    public ClientSubmissionResponse submitClient(ClientCreateRequest request) {
+        clientValidation.validateCreateClientBody(request);
+        UUID trackingId = clientWriteBehindQueue.submit(ClientRequests.toClient(request));
+        return new ClientSubmissionResponse(trackingId, ClientSubmissionStatus.PENDING);
+    }
+
+    public ClientSubmissionResponse getSubmission(UUID trackingId) {
+        return clientWriteBehindQueue.status(trackingId)
+                .map(status -> new ClientSubmissionResponse(trackingId, status))
+                .orElseThrow(() -> new BusinessException("Submission not found"));
+    }
+
     @Transactional
-    public Client updateClient(Long id, ClientUpdateRequest request) {
-        Client client = clientRepository.findById(id)
+    public ClientBatchResponse saveClients(List<ClientCreateRequest> requests) {
+        clientValidation.validateBatchSize(requests.size(), maxBatchSize);
+        List<Client> clients = new ArrayList<>(requests.size());
+        List<ClientBatchError> errors = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            ClientCreateRequest request = requests.get(index);
+            if (request == null) {
+                errors.add(new ClientBatchError(index, "Client is required", null));
+                continue;
+            }
+            Map<String, String> fieldErrors = clientValidation.validateFields(request);
+            if (!fieldErrors.isEmpty()) {
+                errors.add(new ClientBatchError(index, "Validation failed", fieldErrors));
+                continue;
+            }
+            try {
+                clientValidation.validateCreateClientBody(request);
+            } catch (BusinessException ex) {
+                errors.add(new ClientBatchError(index, ex.getMessage(), null));
+                continue;
+            }
+            clients.add(ClientRequests.toClient(request));
+        }
+
+        int created = clientRepository.insertAll(clients);
+
+        clientCreationCounter.increment(created);
+        afterCommit(() -> clients.forEach(client -> clientAgeStatistics.add(client.getAge())));
+        clientDatasetVersion.bump();
+
+        return new ClientBatchResponse(created, errors);
+    }
+
+    @Transactional
+    public Client findClient(Long id) {
+        return clientCache.find(id)
                 .orElseThrow(() -> new BusinessException("Client not found"));
+    }
+
+    @Transactional
+    public Client updateClient(Long id, ClientUpdateRequest request) {
+        Client client = clientRepository.findByIdForUpdate(id).orElseThrow(() -> {
+            clientCache.evict(id);
+            return new BusinessException("Client not found");
+        });
+        entityManager.detach(client);
         clientValidation.validateUpdateClientBody(client, request);
-        if (request.getName() != null) {
-            client.setName(request.getName());
-        }
-        if (request.getSurname() != null) {
-            client.setSurname(request.getSurname());
-        }
-        if (request.getAge() != null) {
-            client.setAge(request.getAge());
-        }
-        if (request.getBirthDate() != null) {
-            client.setBirthDate(request.getBirthDate());
+        int previousAge = client.getAge();
+        ClientRequests.applyUpdate(client, request);
+        int updatedRows = clientRepository.updateFields(id, request.getName(), request.getSurname(),
+                request.getAge(), request.getBirthDate(), Instant.now());
+        if (updatedRows == 0) {
+            clientCache.evict(id);
+            throw new BusinessException("Client not found");
         }
-        Client updated = clientRepository.save(client);
+        int newAge = client.getAge();
+        afterCommit(() -> {
+            clientAgeStatistics.replace(previousAge, newAge);
+            clientCache.evict(id);
+        });
+        clientDatasetVersion.bump();
 
-        return updated;
+        return client;
     }
 
     @Transactional
     public void deleteClient(Long id) {
-        clientRepository.findById(id).ifPresent(clientRepository::delete);
+        clientRepository.findByIdForUpdate(id).ifPresentOrElse(client -> {
+            int age = client.getAge();
+            if (clientRepository.softDeleteById(id, Instant.now()) == 0) {
+                clientCache.evict(id);
+                return;
+            }
+            afterCommit(() -> {
+                clientAgeStatistics.remove(age);
+                clientCache.evict(id);
+            });
+            clientDatasetVersion.bump();
+        }, () -> clientCache.evict(id));
     }
 
-    public List<Client> listClients() {
-        return clientRepository.findAll();
+    @Transactional(readOnly = true)
+    public Slice<Client> listClients(Long after, Integer limit) {
+        int pageSize = limit != null ? limit : defaultPageSize;
+        clientValidation.validatePageSize(pageSize);
+        return clientRepository.findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L,
+                PageRequest.of(0, Math.min(pageSize, maxPageSize)));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportClients(ClientExportSink sink) throws IOException {
+        try (Stream<Client> clients = clientRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Client> iterator = clients.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                sink.write(iterator.next());
+                if (++written % exportBatchSize == 0) {
+                    entityManager.clear();
+                    sink.endBatch();
+                }
+            }
+            sink.endBatch();
+        }
     }
 
     public double calculateAverageAge() {
-        List<Client> clients = clientRepository.findAll();
-        return clients.stream()
-                .mapToInt(Client::getAge)
-                .average()
-                .orElse(0);
+        return clientAgeStatistics.averageAge();
     }
 
     public double calculateStandardDeviation() {
-        List<Client> clients = clientRepository.findAll();
-        double average = calculateAverageAge();
-        return Math.sqrt(clients.stream()
-                .mapToDouble(client -> Math.pow(client.getAge() - average, 2))
-                .average()
-                .orElse(0));
+        return clientAgeStatistics.standardDeviation();
+    }
+
+    @Transactional(readOnly = true)
+    public MetricsResponse getMetrics() {
+        if (metricsSource == ClientMetricsSource.MEMORY && clientAgeStatistics.isReady()) {
+            return new MetricsResponse(clientAgeStatistics.averageAge(), clientAgeStatistics.standardDeviation());
+        }
+        if (metricsSource == ClientMetricsSource.SCAN) {
+            AgeSummary summary = ageStatisticsCalculator.summarize(clientRepository.loadAges());
+            return new MetricsResponse(summary.mean(), summary.standardDeviation());
+        }
+        ClientAgeAggregate aggregate = clientRepository.aggregateAgeMetrics();
+        if (aggregate.getCount() == 0 || aggregate.getAverageAge() == null) {
+            return new MetricsResponse(0, 0);
+        }
+        double variance = aggregate.getVariance() != null ? Math.max(aggregate.getVariance(), 0) : 0;
+        return new MetricsResponse(aggregate.getAverageAge(), Math.sqrt(variance));
+    }
+
+    @Transactional(readOnly = true)
+    public AgeDistributionResponse getAgeDistribution() {
+        if (metricsSource == ClientMetricsSource.MEMORY && clientAgeStatistics.isReady()) {
+            return clientAgeStatistics.distribution(histogramBucketWidth);
+        }
+        return ClientAgeStatistics.distributionOf(clientRepository.countByAge(), histogramBucketWidth);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
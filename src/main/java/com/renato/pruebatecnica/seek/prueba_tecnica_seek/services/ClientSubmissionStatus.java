@@ -0,0 +1,7 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+public enum ClientSubmissionStatus {
+    PENDING,
+    COMMITTED,
+    FAILED
+}
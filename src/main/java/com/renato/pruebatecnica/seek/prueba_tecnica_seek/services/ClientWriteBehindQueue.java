@@ -0,0 +1,278 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ServiceUnavailableException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.TooManyRequestsException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class ClientWriteBehindQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientWriteBehindQueue.class);
+
+    private final ClientRepository clientRepository;
+    private final ClientAgeStatistics clientAgeStatistics;
+    private final ClientDatasetVersion clientDatasetVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingClient> queue;
+    private final Cache<UUID, ClientSubmissionStatus> statuses;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long shutdownTimeoutMillis;
+    private final Counter clientCreationCounter;
+    private final Counter rejectedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+    private volatile boolean running;
+    private Thread writer;
+
+    public ClientWriteBehindQueue(ClientRepository clientRepository, ClientAgeStatistics clientAgeStatistics,
+            ClientDatasetVersion clientDatasetVersion,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${client.write-behind.enabled:false}") boolean enabled,
+            @Value("${client.write-behind.capacity:10000}") int capacity,
+            @Value("${client.write-behind.batch-size:500}") int batchSize,
+            @Value("${client.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${client.write-behind.max-attempts:3}") int maxAttempts,
+            @Value("${client.write-behind.retry-backoff-ms:100}") long retryBackoffMillis,
+            @Value("${client.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+            @Value("${client.write-behind.status.maximum-size:100000}") long statusMaximumSize,
+            @Value("${client.write-behind.status.ttl-seconds:600}") long statusTtlSeconds) {
+        this.clientRepository = clientRepository;
+        this.clientAgeStatistics = clientAgeStatistics;
+        this.clientDatasetVersion = clientDatasetVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(statusTtlSeconds))
+                .build();
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushIntervalMillis, 1));
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoffMillis = Math.max(retryBackoffMillis, 0);
+        this.shutdownTimeoutMillis = Math.max(shutdownTimeoutMillis, 1);
+        this.clientCreationCounter = meterRegistry.counter("client.creations.total");
+        this.rejectedCounter = meterRegistry.counter("client.write-behind.rejected");
+        this.retriedCounter = meterRegistry.counter("client.write-behind.retried");
+        this.failedCounter = meterRegistry.counter("client.write-behind.failed");
+        this.batchSizeSummary = DistributionSummary.builder("client.write-behind.batch.size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("client.write-behind.commit.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("client.write-behind.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UUID submit(Client client) {
+        if (!running) {
+            throw stopped();
+        }
+        UUID trackingId = UUID.randomUUID();
+        PendingClient pending = new PendingClient(trackingId, client);
+        statuses.put(trackingId, ClientSubmissionStatus.PENDING);
+        if (!queue.offer(pending)) {
+            statuses.invalidate(trackingId);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Client queue is full, retry later");
+        }
+        if (!running && queue.remove(pending)) {
+            throw stopped();
+        }
+        return trackingId;
+    }
+
+    public Optional<ClientSubmissionStatus> status(UUID trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("client-write-behind").daemon().start(this::drain);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            if (!writer.join(Duration.ofMillis(shutdownTimeoutMillis))) {
+                log.warn("Write-behind writer still flushing {} queued clients after {} ms, not waiting any longer",
+                        queue.size(), shutdownTimeoutMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        List<PendingClient> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fill(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<PendingClient> batch) throws InterruptedException {
+        PendingClient first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingClient next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingClient> batch) {
+        List<PendingClient> committed = new ArrayList<>(batch.size());
+        long start = System.nanoTime();
+        write(batch, committed);
+        if (committed.isEmpty()) {
+            return;
+        }
+        commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(committed.size());
+        clientCreationCounter.increment(committed.size());
+        committed.forEach(pending -> clientAgeStatistics.add(pending.client().getAge()));
+        committed.forEach(pending -> statuses.put(pending.trackingId(), ClientSubmissionStatus.COMMITTED));
+        clientDatasetVersion.bump();
+    }
+
+    // Only a data error is isolated by halving the batch; a transient failure retries the whole batch and then gives up.
+    private void write(List<PendingClient> batch, List<PendingClient> committed) {
+        WriteOutcome outcome = insertWithRetry(batch);
+        if (outcome == WriteOutcome.COMMITTED) {
+            committed.addAll(batch);
+            return;
+        }
+        if (outcome == WriteOutcome.FAILED || batch.size() == 1) {
+            failedCounter.increment(batch.size());
+            batch.forEach(pending -> statuses.put(pending.trackingId(), ClientSubmissionStatus.FAILED));
+            return;
+        }
+        int middle = batch.size() / 2;
+        write(batch.subList(0, middle), committed);
+        write(batch.subList(middle, batch.size()), committed);
+    }
+
+    private WriteOutcome insertWithRetry(List<PendingClient> batch) {
+        List<Client> clients = batch.stream().map(PendingClient::client).toList();
+        for (int attempt = 1;; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> clientRepository.insertAll(clients));
+                return WriteOutcome.COMMITTED;
+            } catch (RuntimeException ex) {
+                if (isDataError(ex)) {
+                    if (batch.size() == 1) {
+                        log.warn("Rejected queued client", ex);
+                    }
+                    return WriteOutcome.REJECTED;
+                }
+                if (attempt >= maxAttempts) {
+                    log.error("Failed to write {} queued clients after {} attempts", batch.size(), attempt, ex);
+                    return WriteOutcome.FAILED;
+                }
+                retriedCounter.increment();
+            }
+            try {
+                Thread.sleep(retryBackoffMillis << (attempt - 1));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return WriteOutcome.FAILED;
+            }
+        }
+    }
+
+    private static boolean isDataError(RuntimeException ex) {
+        return ex instanceof NonTransientDataAccessException
+                && !(ex instanceof NonTransientDataAccessResourceException);
+    }
+
+    private static ServiceUnavailableException stopped() {
+        return new ServiceUnavailableException("Client queue is not accepting writes, retry later");
+    }
+
+    private enum WriteOutcome {
+        COMMITTED, REJECTED, FAILED
+    }
+
+    private record PendingClient(UUID trackingId, Client client) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveClientService {
+    public Mono<Client> saveClient(ClientCreateRequest request);
+
+    public Mono<Client> updateClient(Long id, ClientUpdateRequest request);
+
+    public Mono<Void> deleteClient(Long id);
+
+    public Flux<Client> listClients(Long after, Integer limit);
+
+    public Mono<MetricsResponse> getMetrics();
+}
@@ -0,0 +1,129 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek.services;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ReactiveClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.validations.ClientValidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+@Service
+public class ReactiveClientServiceImpl implements ReactiveClientService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveClientServiceImpl.class);
+
+    private final ReactiveClientRepository reactiveClientRepository;
+    private final ClientValidation clientValidation;
+    private final ClientAgeStatistics clientAgeStatistics;
+    private final ClientCache clientCache;
+    private final ClientDatasetVersion clientDatasetVersion;
+    private final TransactionalOperator transactionalOperator;
+    private final ClientMetricsSource metricsSource;
+    private final Counter clientCreationCounter;
+
+    public ReactiveClientServiceImpl(ReactiveClientRepository reactiveClientRepository,
+            ClientValidation clientValidation, ClientAgeStatistics clientAgeStatistics, ClientCache clientCache,
+            ClientDatasetVersion clientDatasetVersion,
+            TransactionalOperator transactionalOperator, MeterRegistry meterRegistry,
+            @Value("${client.metrics.source:memory}") ClientMetricsSource metricsSource) {
+        this.reactiveClientRepository = reactiveClientRepository;
+        this.clientValidation = clientValidation;
+        this.clientAgeStatistics = clientAgeStatistics;
+        this.clientCache = clientCache;
+        this.clientDatasetVersion = clientDatasetVersion;
+        this.transactionalOperator = transactionalOperator;
+        this.metricsSource = metricsSource;
+        this.clientCreationCounter = meterRegistry.counter("client.creations.total");
+    }
+
+    public Mono<Client> saveClient(ClientCreateRequest request) {
+        return Mono.fromRunnable(() -> clientValidation.validateCreateClientBody(request))
+                .then(Mono.defer(() -> reactiveClientRepository.insert(ClientRequests.toClient(request))))
+                .as(transactionalOperator::transactional)
+                .flatMap(saved -> {
+                    clientCreationCounter.increment();
+                    clientAgeStatistics.add(saved.getAge());
+                    clientCache.put(saved);
+                    return bumpDatasetVersion().thenReturn(saved);
+                });
+    }
+
+    public Mono<Client> updateClient(Long id, ClientUpdateRequest request) {
+        return reactiveClientRepository.findLiveByIdForUpdate(id)
+                .switchIfEmpty(Mono.error(() -> new BusinessException("Client not found")))
+                .flatMap(client -> {
+                    clientValidation.validateUpdateClientBody(client, request);
+                    int previousAge = client.getAge();
+                    ClientRequests.applyUpdate(client, request);
+                    return reactiveClientRepository.updateFields(id, request.getName(), request.getSurname(),
+                            request.getAge(), request.getBirthDate())
+                            .filter(updatedRows -> updatedRows > 0)
+                            .switchIfEmpty(Mono.error(() -> new BusinessException("Client not found")))
+                            .thenReturn(Tuples.of(previousAge, client));
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(change -> {
+                    clientAgeStatistics.replace(change.getT1(), change.getT2().getAge());
+                    clientCache.evict(id);
+                    return bumpDatasetVersion().thenReturn(change.getT2());
+                });
+    }
+
+    public Mono<Void> deleteClient(Long id) {
+        return reactiveClientRepository.findLiveByIdForUpdate(id)
+                .flatMap(client -> reactiveClientRepository.softDeleteById(id)
+                        .filter(deletedRows -> deletedRows > 0)
+                        .map(deletedRows -> client))
+                .as(transactionalOperator::transactional)
+                .flatMap(client -> {
+                    clientAgeStatistics.remove(client.getAge());
+                    clientCache.evict(id);
+                    return bumpDatasetVersion();
+                })
+                .then();
+    }
+
+    public Flux<Client> listClients(Long after, Integer limit) {
+        if (limit != null) {
+            clientValidation.validatePageSize(limit);
+        }
+        return reactiveClientRepository.findLiveAfter(after != null ? after : 0L, limit);
+    }
+
+    public Mono<MetricsResponse> getMetrics() {
+        if (metricsSource == ClientMetricsSource.MEMORY && clientAgeStatistics.isReady()) {
+            return Mono.fromSupplier(() -> new MetricsResponse(clientAgeStatistics.averageAge(),
+                    clientAgeStatistics.standardDeviation()));
+        }
+        return reactiveClientRepository.aggregateAgeMetrics();
+    }
+
+    // Runs after the write commits, as autocommit statements, for the same reason as ClientDatasetVersion.bump.
+    private Mono<Long> bumpDatasetVersion() {
+        return Mono.defer(() -> {
+            Instant changedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            return reactiveClientRepository.bumpDatasetVersion(changedAt)
+                    .doOnNext(version -> clientDatasetVersion.publish(version, changedAt));
+        }).onErrorResume(DataAccessException.class, ex -> {
+            log.warn("Failed to bump the client dataset version; ETags stay on the previous version", ex);
+            return Mono.empty();
+        });
+    }
+}
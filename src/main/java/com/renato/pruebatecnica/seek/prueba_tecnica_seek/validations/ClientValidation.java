@@ -2,17 +2,43 @@ package com.renato.pruebatecnica.seek.prueba_tecnica_seek.validations;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
-import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ClientValidationException;
+
+import jakarta.validation.Validator;
 
 @Component
 public class ClientValidation {
 
+    private final Validator validator;
+
+    public ClientValidation(Validator validator) {
+        this.validator = validator;
+    }
+
+    public Map<String, String> validateFields(ClientCreateRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        validator.validate(request)
+                .forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    public void validateBatchSize(int size, int maxSize) {
+        if (size < 1) {
+            throw new ClientValidationException("Batch must contain at least one client");
+        }
+        if (size > maxSize) {
+            throw new ClientValidationException("Batch must not contain more than " + maxSize + " clients");
+        }
+    }
+
     public void validateCreateClientBody(ClientCreateRequest request) {
         validateAge(request.getBirthDate(), request.getAge());
     }
@@ -26,13 +52,19 @@ public class ClientValidation {
         }
     }
 
+    public void validatePageSize(int limit) {
+        if (limit < 1) {
+            throw new ClientValidationException("Limit must be greater than zero");
+        }
+    }
+
     public void validateAge(LocalDate birthDate, Integer age) {
         if (birthDate == null || age == null) {
             return;
         }
         int years = Period.between(birthDate, LocalDate.now()).getYears();
         if (years != age) {
-            throw new BusinessException("Age does not match birth date");
+            throw new ClientValidationException("Age does not match birth date");
         }
     }
 }
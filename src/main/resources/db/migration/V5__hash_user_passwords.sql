@@ -0,0 +1,9 @@
+-- Replace the seeded plaintext password with its bcrypt hash
+UPDATE user
+SET password = '{bcrypt}$2a$10$Fynvnz2RxT8PfkghOPsFG.UaBOAeuHptqyH0/e2br4YNs91KudXyi'
+WHERE email = 'user@email.com' AND password = 'password';
+
+-- Mark remaining plaintext passwords so they are re-hashed on the next successful login
+UPDATE user
+SET password = CONCAT('{noop}', password)
+WHERE password NOT LIKE '{%';
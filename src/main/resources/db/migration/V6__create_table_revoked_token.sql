@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS revoked_token (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL
+);
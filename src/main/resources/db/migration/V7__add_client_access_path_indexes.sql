@@ -0,0 +1,3 @@
+CREATE INDEX idx_client_deleted_at_id ON client (deleted_at, id);
+CREATE INDEX idx_client_deleted_at_age ON client (deleted_at, age);
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
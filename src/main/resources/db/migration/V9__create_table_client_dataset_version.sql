@@ -0,0 +1,7 @@
+CREATE TABLE client_dataset_version (
+    id INT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    changed_at TIMESTAMP(3) NOT NULL
+);
+
+INSERT INTO client_dataset_version (id, version, changed_at) VALUES (1, 0, CURRENT_TIMESTAMP(3));
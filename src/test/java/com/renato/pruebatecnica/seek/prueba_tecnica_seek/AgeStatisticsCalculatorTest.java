@@ -0,0 +1,50 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.AgeStatisticsCalculator;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.AgeSummary;
+
+class AgeStatisticsCalculatorTest {
+
+    @Test
+    void summarize_sequentialAndParallelMatchTwoPassMath() {
+        SplittableRandom random = new SplittableRandom(11);
+        int[] ages = new int[200_000];
+        for (int i = 0; i < ages.length; i++) {
+            ages[i] = random.nextInt(120);
+        }
+        double mean = 0;
+        for (int age : ages) {
+            mean += age;
+        }
+        mean /= ages.length;
+        double variance = 0;
+        for (int age : ages) {
+            variance += (age - mean) * (age - mean);
+        }
+        variance /= ages.length;
+
+        AgeSummary sequential = new AgeStatisticsCalculator(Integer.MAX_VALUE).summarize(ages);
+        AgeSummary parallel = new AgeStatisticsCalculator(10_000).summarize(ages);
+
+        assertThat(sequential.count()).isEqualTo(ages.length);
+        assertThat(sequential.mean()).isCloseTo(mean, within(1e-9));
+        assertThat(sequential.variance()).isCloseTo(variance, within(1e-9));
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void summarize_withEmptyInput_returnsZeros() {
+        AgeSummary summary = new AgeStatisticsCalculator(1_000_000).summarize(new int[0]);
+
+        assertThat(summary.count()).isZero();
+        assertThat(summary.mean()).isZero();
+        assertThat(summary.standardDeviation()).isZero();
+    }
+}
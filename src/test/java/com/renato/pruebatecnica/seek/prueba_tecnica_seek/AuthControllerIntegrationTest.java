@@ -4,10 +4,14 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -15,19 +19,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.controllers.AuthController;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.LoginRequest;
-import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Role;
-import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.RefreshTokenRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.UserRepository;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.JwtTokenProvider;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.PasswordConfig;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RefreshToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RevokedTokenStore;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentials;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentialsCache;
 
 @WebMvcTest(controllers = AuthController.class)
+@Import(PasswordConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 class AuthControllerIntegrationTest {
@@ -38,35 +49,48 @@ class AuthControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private UserCredentialsCache userCredentialsCache;
+
+    @MockBean
+    private RevokedTokenStore revokedTokenStore;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
     @Test
     void login_withValidCredentials_returnsToken() throws Exception {
         LoginRequest request = new LoginRequest("user@email.com", "passowrd");
-        Role role = Role.builder().id(1L).name("ROLE_ADMIN").alias("Admin").build();
-        User user = User.builder().id(1L).email(request.email()).password(request.password()).role(role).build();
+        UserCredentials credentials = new UserCredentials(1L, request.email(),
+                passwordEncoder.encode(request.password()), "ROLE_ADMIN");
 
-        given(userRepository.findByEmail(eq(request.email()))).willReturn(Optional.of(user));
+        given(userCredentialsCache.find(eq(request.email()))).willReturn(Optional.of(credentials));
         given(jwtTokenProvider.generateToken(eq(request.email()), any())).willReturn("jwt-token");
+        given(jwtTokenProvider.generateRefreshToken(eq(request.email()), any(), any())).willReturn("refresh-token");
+        given(jwtTokenProvider.getValidityInSeconds()).willReturn(900L);
 
         mockMvc.perform(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token", notNullValue()));
+                .andExpect(jsonPath("$.token", notNullValue()))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"))
+                .andExpect(jsonPath("$.expiresIn").value(900));
     }
 
     @Test
     void login_withInvalidPassword_returnsUnauthorized() throws Exception {
         LoginRequest request = new LoginRequest("user@email.com", "wrong");
-        Role role = Role.builder().id(1L).name("ROLE_ADMIN").alias("Admin").build();
-        User user = User.builder().id(1L).email(request.email()).password("passowrd").role(role).build();
+        UserCredentials credentials = new UserCredentials(1L, request.email(),
+                passwordEncoder.encode("passowrd"), "ROLE_ADMIN");
 
-        given(userRepository.findByEmail(eq(request.email()))).willReturn(Optional.of(user));
+        given(userCredentialsCache.find(eq(request.email()))).willReturn(Optional.of(credentials));
 
         mockMvc.perform(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -77,11 +101,58 @@ class AuthControllerIntegrationTest {
     @Test
     void login_withUnknownUser_returnsUnauthorized() throws Exception {
         LoginRequest request = new LoginRequest("unknown@email.com", "passowrd");
-        given(userRepository.findByEmail(eq(request.email()))).willReturn(Optional.empty());
+        given(userCredentialsCache.find(eq(request.email()))).willReturn(Optional.empty());
 
         mockMvc.perform(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void refresh_withValidRefreshToken_rotatesTokens() throws Exception {
+        RefreshToken refreshToken = new RefreshToken("jti-1", "user@email.com", List.of("ROLE_ADMIN"),
+                Instant.now().plusSeconds(60), Instant.now());
+        given(jwtTokenProvider.verifyRefreshToken("refresh-token")).willReturn(Optional.of(refreshToken));
+        given(userCredentialsCache.find("user@email.com")).willReturn(Optional.of(
+                new UserCredentials(1L, "user@email.com", "hash", "ROLE_ADMIN")));
+        given(revokedTokenStore.revoke(refreshToken)).willReturn(true);
+        given(jwtTokenProvider.generateToken(eq("user@email.com"), any())).willReturn("new-jwt-token");
+        given(jwtTokenProvider.generateRefreshToken(eq("user@email.com"), any(), eq(refreshToken.authTime())))
+                .willReturn("new-refresh-token");
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("new-jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+    }
+
+    @Test
+    void refresh_forDeletedUser_returnsUnauthorizedWithoutRotating() throws Exception {
+        RefreshToken refreshToken = new RefreshToken("jti-1", "user@email.com", List.of("ROLE_ADMIN"),
+                Instant.now().plusSeconds(60), Instant.now());
+        given(jwtTokenProvider.verifyRefreshToken("refresh-token")).willReturn(Optional.of(refreshToken));
+        given(userCredentialsCache.find("user@email.com")).willReturn(Optional.empty());
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token"))))
+                .andExpect(status().isUnauthorized());
+        verify(revokedTokenStore, never()).revoke(any());
+    }
+
+    @Test
+    void refresh_withRevokedRefreshToken_returnsUnauthorized() throws Exception {
+        RefreshToken refreshToken = new RefreshToken("jti-1", "user@email.com", List.of("ROLE_ADMIN"),
+                Instant.now().plusSeconds(60), Instant.now());
+        given(jwtTokenProvider.verifyRefreshToken("refresh-token")).willReturn(Optional.of(refreshToken));
+        given(revokedTokenStore.isRevoked("jti-1")).willReturn(true);
+
+        mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token"))))
+                .andExpect(status().isUnauthorized());
+    }
 }
@@ -0,0 +1,117 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.LoginRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Role;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.UserRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentialsCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthLoginIntegrationTest {
+
+    private static final String LEGACY_EMAIL = "legacy@email.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCredentialsCache userCredentialsCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM user WHERE email = ?", LEGACY_EMAIL);
+        userCredentialsCache.clear();
+    }
+
+    @Test
+    void login_withSeededUser_matchesMigratedHashAndCachesCredentials() throws Exception {
+        String storedPassword = jdbcTemplate.queryForObject(
+                "SELECT password FROM user WHERE email = 'user@email.com'", String.class);
+        assertThat(storedPassword).startsWith("{bcrypt}");
+
+        double misses = cacheGets("miss");
+        double hits = cacheGets("hit");
+
+        login("user@email.com", "password", 200);
+        login("user@email.com", "password", 200);
+        login("user@email.com", "wrong", 401);
+
+        assertThat(cacheGets("miss") - misses).isEqualTo(1);
+        assertThat(cacheGets("hit") - hits).isEqualTo(2);
+    }
+
+    @Test
+    void login_withLegacyPlaintextPassword_upgradesToBcrypt() throws Exception {
+        Role role = userRepository.findByEmail("user@email.com").orElseThrow().getRole();
+        userRepository.save(User.builder().email(LEGACY_EMAIL).password("{noop}secret").role(role).build());
+
+        login(LEGACY_EMAIL, "secret", 200);
+
+        String storedPassword = jdbcTemplate.queryForObject(
+                "SELECT password FROM user WHERE email = ?", String.class, LEGACY_EMAIL);
+        assertThat(storedPassword).startsWith("{bcrypt}");
+
+        login(LEGACY_EMAIL, "secret", 200);
+        login(LEGACY_EMAIL, "other", 401);
+    }
+
+    @Test
+    void login_afterUserChange_reloadsCredentials() throws Exception {
+        Role role = userRepository.findByEmail("user@email.com").orElseThrow().getRole();
+        User user = userRepository.save(User.builder().email(LEGACY_EMAIL).password("{noop}secret").role(role).build());
+        login(LEGACY_EMAIL, "secret", 200);
+
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        stored.setPassword("{noop}rotated");
+        userRepository.save(stored);
+
+        login(LEGACY_EMAIL, "secret", 401);
+        login(LEGACY_EMAIL, "rotated", 200);
+    }
+
+    private void login(String email, String password, int expectedStatus) throws Exception {
+        mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().is(expectedStatus));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "auth.user-credentials")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
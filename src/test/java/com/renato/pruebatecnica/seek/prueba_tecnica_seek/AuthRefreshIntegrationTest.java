@@ -0,0 +1,202 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.LoginRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.RefreshTokenRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.TokenResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.RevokedTokenRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.AuthenticatedToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.JwtTokenProvider;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RefreshToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RevokedTokenStore;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.UserCredentialsCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthRefreshIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RevokedTokenStore revokedTokenStore;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserCredentialsCache userCredentialsCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM revoked_token");
+        jdbcTemplate.update("DELETE FROM user WHERE email = 'refresh@email.com'");
+        jdbcTemplate.update("DELETE FROM role WHERE name = 'ROLE_VIEWER'");
+        revokedTokenStore.rebuild();
+        userCredentialsCache.clear();
+    }
+
+    @Test
+    void refresh_rotatesRefreshTokenAndRejectsReuse() throws Exception {
+        TokenResponse login = login();
+
+        TokenResponse refreshed = read(refresh(login.refreshToken()).andExpect(status().isOk()));
+
+        assertThat(refreshed.token()).isNotBlank();
+        assertThat(refreshed.refreshToken()).isNotEqualTo(login.refreshToken());
+        refresh(login.refreshToken()).andExpect(status().isUnauthorized());
+        refresh(refreshed.refreshToken()).andExpect(status().isOk());
+    }
+
+    @Test
+    void refresh_replayedOnInstanceWithEmptyCache_isRejectedByTheDatabase() throws Exception {
+        TokenResponse login = login();
+        RefreshToken token = jwtTokenProvider.verifyRefreshToken(login.refreshToken()).orElseThrow();
+        RevokedTokenStore otherInstance = new RevokedTokenStore(revokedTokenRepository, new SimpleMeterRegistry(),
+                100);
+
+        refresh(login.refreshToken()).andExpect(status().isOk());
+
+        assertThat(otherInstance.isRevoked(token.tokenId())).isFalse();
+        assertThat(otherInstance.revoke(token)).isFalse();
+        assertThat(otherInstance.isRevoked(token.tokenId())).isTrue();
+    }
+
+    @Test
+    void revoke_evictedFromTheBoundedCache_isStillRejectedByTheDatabase() {
+        RevokedTokenStore store = new RevokedTokenStore(revokedTokenRepository, new SimpleMeterRegistry(), 1);
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        RefreshToken first = new RefreshToken("first", "user@email.com", List.of(), expiresAt, Instant.now());
+        RefreshToken second = new RefreshToken("second", "user@email.com", List.of(), expiresAt, Instant.now());
+
+        assertThat(store.revoke(first)).isTrue();
+        assertThat(store.revoke(second)).isTrue();
+
+        assertThat(store.revoke(first)).isFalse();
+        assertThat(store.revoke(second)).isFalse();
+    }
+
+    @Test
+    void deleteExpired_removesOnlyExpiredRows() {
+        Instant now = Instant.now();
+        revokedTokenRepository.insert("expired", now.minusSeconds(1), now.minusSeconds(60));
+        revokedTokenRepository.insert("live", now.plus(Duration.ofHours(1)), now);
+
+        assertThat(revokedTokenStore.deleteExpired()).isEqualTo(1);
+        assertThat(revokedTokenRepository.existsById("expired")).isFalse();
+        assertThat(revokedTokenRepository.existsById("live")).isTrue();
+    }
+
+    @Test
+    void refresh_usesTheCurrentRoleAndRejectsDeletedUsers() throws Exception {
+        jdbcTemplate.update("INSERT INTO role (name, alias) VALUES ('ROLE_VIEWER', 'Viewer')");
+        jdbcTemplate.update("INSERT INTO user (email, password, role_id) "
+                + "VALUES ('refresh@email.com', ?, (SELECT id FROM role WHERE name = 'ROLE_ADMIN'))",
+                passwordEncoder.encode("password"));
+        TokenResponse login = login("refresh@email.com");
+
+        jdbcTemplate.update("UPDATE user SET role_id = (SELECT id FROM role WHERE name = 'ROLE_VIEWER') "
+                + "WHERE email = 'refresh@email.com'");
+        userCredentialsCache.clear();
+        TokenResponse refreshed = read(refresh(login.refreshToken()).andExpect(status().isOk()));
+
+        assertThat(jwtTokenProvider.verify(refreshed.token())).get()
+                .extracting(AuthenticatedToken::roles)
+                .isEqualTo(List.of("ROLE_VIEWER"));
+        assertThat(jwtTokenProvider.verifyRefreshToken(refreshed.refreshToken())).get()
+                .extracting(RefreshToken::authTime)
+                .isEqualTo(jwtTokenProvider.verifyRefreshToken(login.refreshToken()).orElseThrow().authTime());
+
+        jdbcTemplate.update("UPDATE user SET deleted_at = CURRENT_TIMESTAMP WHERE email = 'refresh@email.com'");
+        userCredentialsCache.clear();
+        refresh(refreshed.refreshToken()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logout_revokesRefreshTokenAcrossRebuilds() throws Exception {
+        TokenResponse login = login();
+
+        mockMvc.perform(post("/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(login.refreshToken()))))
+                .andExpect(status().isNoContent());
+        revokedTokenStore.rebuild();
+
+        refresh(login.refreshToken()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshToken_isNotAcceptedAsBearerToken() throws Exception {
+        TokenResponse login = login();
+
+        mockMvc.perform(get("/api/v1/clients/metrics")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + login.refreshToken()))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/api/v1/clients/metrics")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + login.token()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void refresh_withAccessToken_returnsUnauthorized() throws Exception {
+        refresh(login().token()).andExpect(status().isUnauthorized());
+    }
+
+    private TokenResponse login() throws Exception {
+        return login("user@email.com");
+    }
+
+    private TokenResponse login(String email) throws Exception {
+        return read(mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(email, "password"))))
+                .andExpect(status().isOk()));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+    }
+
+    private TokenResponse read(ResultActions result) throws Exception {
+        return objectMapper.readValue(result.andReturn().getResponse().getContentAsString(), TokenResponse.class);
+    }
+}
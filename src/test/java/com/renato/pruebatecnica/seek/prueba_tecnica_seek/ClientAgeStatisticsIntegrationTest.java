@@ -0,0 +1,146 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientAgeStatisticsIntegrationTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientAgeStatistics clientAgeStatistics;
+
+    @Test
+    void metrics_afterCreateUpdateAndDelete_matchBruteForce() {
+        Random random = new Random(42);
+        List<Client> created = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            created.add(clientService.saveClient(createRequest(18 + random.nextInt(70))));
+        }
+        for (int i = 0; i < 50; i++) {
+            Client client = created.get(random.nextInt(created.size()));
+            ClientUpdateRequest update = new ClientUpdateRequest();
+            int age = 18 + random.nextInt(70);
+            update.setAge(age);
+            update.setBirthDate(LocalDate.now().minusYears(age));
+            clientService.updateClient(client.getId(), update);
+        }
+        for (int i = 0; i < 40; i++) {
+            clientService.deleteClient(created.get(i).getId());
+        }
+
+        assertMatchesBruteForce();
+
+        clientAgeStatistics.rebuild();
+
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void metrics_withNoClients_returnZero() {
+        assertThat(clientService.calculateAverageAge()).isZero();
+        assertThat(clientService.calculateStandardDeviation()).isZero();
+        assertThat(clientService.getAgeDistribution().count()).isZero();
+        assertThat(clientService.getAgeDistribution().buckets()).isEmpty();
+    }
+
+    @Test
+    void distribution_afterCreateUpdateAndDelete_matchesSortedAges() {
+        Random random = new Random(3);
+        List<Client> created = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            created.add(clientService.saveClient(createRequest(random.nextInt(100))));
+        }
+        ClientUpdateRequest update = new ClientUpdateRequest();
+        update.setAge(99);
+        update.setBirthDate(LocalDate.now().minusYears(99));
+        clientService.updateClient(created.get(0).getId(), update);
+        for (int i = 1; i < 20; i++) {
+            clientService.deleteClient(created.get(i).getId());
+        }
+
+        assertDistributionMatchesSortedAges();
+        assertThat(ClientAgeStatistics.distributionOf(clientRepository.countByAge(), 10))
+                .isEqualTo(clientAgeStatistics.distribution(10));
+
+        clientAgeStatistics.rebuild();
+
+        assertDistributionMatchesSortedAges();
+    }
+
+    @Test
+    void distribution_withDriftedNegativeCount_skipsIt() {
+        ClientAgeStatistics drifted = new ClientAgeStatistics(clientRepository);
+        drifted.add(40);
+        drifted.add(50);
+        drifted.remove(30);
+
+        AgeDistributionResponse distribution = drifted.distribution(10);
+
+        assertThat(distribution.minAge()).isEqualTo(40);
+        assertThat(distribution.maxAge()).isEqualTo(50);
+        assertThat(distribution.buckets()).allSatisfy(bucket -> assertThat(bucket.count()).isNotNegative());
+
+        drifted.remove(40);
+        drifted.remove(50);
+        drifted.add(30);
+
+        assertThat(drifted.distribution(10).buckets()).isEmpty();
+    }
+
+    private void assertDistributionMatchesSortedAges() {
+        int[] ages = clientRepository.findAll().stream().mapToInt(Client::getAge).sorted().toArray();
+        AgeDistributionResponse distribution = clientService.getAgeDistribution();
+
+        assertThat(distribution.count()).isEqualTo(ages.length);
+        assertThat(distribution.minAge()).isEqualTo(ages[0]);
+        assertThat(distribution.maxAge()).isEqualTo(ages[ages.length - 1]);
+        assertThat(distribution.medianAge()).isEqualTo(ages[(int) Math.ceil(0.5 * ages.length) - 1]);
+        assertThat(distribution.p90Age()).isEqualTo(ages[(int) Math.ceil(0.9 * ages.length) - 1]);
+        assertThat(distribution.p99Age()).isEqualTo(ages[(int) Math.ceil(0.99 * ages.length) - 1]);
+        assertThat(distribution.buckets()).allSatisfy(bucket -> assertThat(bucket.count()).isEqualTo(
+                Arrays.stream(ages).filter(age -> age >= bucket.fromAge() && age <= bucket.toAge()).count()));
+        assertThat(distribution.buckets().stream().mapToLong(bucket -> bucket.count()).sum())
+                .isEqualTo(ages.length);
+    }
+
+    private void assertMatchesBruteForce() {
+        List<Client> clients = clientRepository.findAll();
+        double average = clients.stream().mapToInt(Client::getAge).average().orElse(0);
+        double standardDeviation = Math.sqrt(clients.stream()
+                .mapToDouble(client -> Math.pow(client.getAge() - average, 2))
+                .average()
+                .orElse(0));
+
+        assertThat(clientAgeStatistics.count()).isEqualTo(clients.size());
+        assertThat(clientService.calculateAverageAge()).isCloseTo(average, within(1e-9));
+        assertThat(clientService.calculateStandardDeviation()).isCloseTo(standardDeviation, within(1e-9));
+    }
+}
@@ -0,0 +1,76 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientBatchIntegrationTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientAgeStatistics clientAgeStatistics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void saveClients_insertsValidRowsAndReportsInvalidOnes() {
+        List<ClientCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            requests.add(createRequest("Name" + i, 20 + i % 50));
+        }
+        ClientCreateRequest wrongAge = createRequest("Wrong", 30);
+        wrongAge.setAge(31);
+        requests.set(5, wrongAge);
+        requests.set(10, createRequest(" ", 30));
+        requests.set(15, null);
+        double creationsBefore = meterRegistry.counter("client.creations.total").count();
+
+        ClientBatchResponse response = clientService.saveClients(requests);
+
+        assertThat(response.created()).isEqualTo(1197);
+        assertThat(response.errors()).extracting("index").containsExactly(5, 10, 15);
+        assertThat(response.errors().get(0).message()).isEqualTo("Age does not match birth date");
+        assertThat(response.errors().get(1).fieldErrors()).containsKey("name");
+        assertThat(clientRepository.count()).isEqualTo(1197);
+        assertThat(clientRepository.findAll()).allSatisfy(client -> assertThat(client.getCreatedAt()).isNotNull());
+        assertThat(meterRegistry.counter("client.creations.total").count() - creationsBefore).isEqualTo(1197);
+        assertThat(clientAgeStatistics.count()).isEqualTo(1197);
+    }
+
+    @Test
+    void saveClients_overMaxSize_throwsBusinessException() {
+        ClientCreateRequest[] requests = new ClientCreateRequest[10001];
+        Arrays.fill(requests, createRequest("Name", 30));
+
+        assertThatThrownBy(() -> clientService.saveClients(Arrays.asList(requests)))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientCache;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientCacheIntegrationTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientCache clientCache;
+
+    @Autowired
+    private ClientAgeStatistics clientAgeStatistics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findClient_isServedFromCacheAfterFirstLoad() {
+        Client created = clientService.saveClient(createRequest(30));
+        clientCache.evict(created.getId());
+        double misses = cacheGets("miss");
+        double hits = cacheGets("hit");
+
+        clientService.findClient(created.getId());
+        clientService.findClient(created.getId());
+
+        assertThat(cacheGets("miss") - misses).isEqualTo(1);
+        assertThat(cacheGets("hit") - hits).isEqualTo(1);
+    }
+
+    @Test
+    void updateAndDelete_invalidateCachedClient() {
+        Client created = clientService.saveClient(createRequest(30));
+        assertThat(clientService.findClient(created.getId()).getAge()).isEqualTo(30);
+
+        ClientUpdateRequest update = new ClientUpdateRequest();
+        update.setName("Jane");
+        update.setAge(40);
+        update.setBirthDate(LocalDate.now().minusYears(40));
+        Client updated = clientService.updateClient(created.getId(), update);
+
+        assertThat(updated.getName()).isEqualTo("Jane");
+        Client reloaded = clientService.findClient(created.getId());
+        assertThat(reloaded.getName()).isEqualTo("Jane");
+        assertThat(reloaded.getSurname()).isEqualTo("Surname");
+        assertThat(reloaded.getAge()).isEqualTo(40);
+        assertThat(jdbcTemplate.queryForObject("SELECT age FROM client WHERE id = ?", Integer.class,
+                created.getId())).isEqualTo(40);
+        assertThat(jdbcTemplate.queryForObject("SELECT updated_at IS NOT NULL FROM client WHERE id = ?",
+                Boolean.class, created.getId())).isTrue();
+
+        clientService.deleteClient(created.getId());
+
+        assertThatThrownBy(() -> clientService.findClient(created.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Client not found");
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted_at IS NOT NULL FROM client WHERE id = ?",
+                Boolean.class, created.getId())).isTrue();
+        assertThat(clientAgeStatistics.count()).isZero();
+    }
+
+    @Test
+    void updateClient_keepsColumnsChangedSinceTheClientWasCached() {
+        Client created = clientService.saveClient(createRequest(30));
+        clientService.findClient(created.getId());
+        jdbcTemplate.update("UPDATE client SET surname = 'Changed', age = 41, birth_date = ? WHERE id = ?",
+                LocalDate.now().minusYears(41), created.getId());
+        clientAgeStatistics.rebuild();
+
+        ClientUpdateRequest update = new ClientUpdateRequest();
+        update.setName("Jane");
+        Client updated = clientService.updateClient(created.getId(), update);
+
+        assertThat(updated.getSurname()).isEqualTo("Changed");
+        assertThat(jdbcTemplate.queryForMap("SELECT name, surname, age FROM client WHERE id = ?", created.getId()))
+                .containsEntry("NAME", "Jane")
+                .containsEntry("SURNAME", "Changed")
+                .containsEntry("AGE", 41);
+
+        update = new ClientUpdateRequest();
+        update.setAge(50);
+        update.setBirthDate(LocalDate.now().minusYears(50));
+        clientService.updateClient(created.getId(), update);
+
+        assertThat(clientAgeStatistics.averageAge()).isEqualTo(50);
+    }
+
+    @Test
+    void deleteClient_removesTheAgeStoredSinceTheClientWasCached() {
+        Client created = clientService.saveClient(createRequest(30));
+        clientService.saveClient(createRequest(20));
+        clientService.findClient(created.getId());
+        jdbcTemplate.update("UPDATE client SET age = 41, birth_date = ? WHERE id = ?",
+                LocalDate.now().minusYears(41), created.getId());
+        clientAgeStatistics.rebuild();
+
+        clientService.deleteClient(created.getId());
+
+        assertThat(clientAgeStatistics.count()).isEqualTo(1);
+        assertThat(clientAgeStatistics.averageAge()).isEqualTo(20);
+        assertThatThrownBy(() -> clientService.findClient(created.getId()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "clients.by-id")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
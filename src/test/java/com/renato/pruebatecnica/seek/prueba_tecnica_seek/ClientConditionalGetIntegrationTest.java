@@ -0,0 +1,180 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.SqlStatementCounts.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientDatasetVersion;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+@SpringBootTest(properties = "client.metrics.source=database")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Client existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = clientService.saveClient(createRequest("Ana", 30));
+    }
+
+    @Test
+    void listClients_withCurrentETag_returnsNotModifiedWithoutQueries() throws Exception {
+        String eTag = eTagOf("/api/v1/clients");
+
+        mockMvc.perform(admin(get("/api/v1/clients")).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""))
+                .andExpect(statements(0));
+    }
+
+    @Test
+    void metrics_withCurrentETag_returnsNotModified() throws Exception {
+        String eTag = eTagOf("/api/v1/clients/metrics");
+
+        mockMvc.perform(admin(get("/api/v1/clients/metrics")).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(statements(0));
+        mockMvc.perform(admin(get("/api/v1/clients/metrics"))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void writes_changeTheETag() throws Exception {
+        String initial = eTagOf("/api/v1/clients/metrics");
+
+        clientService.saveClient(createRequest("Luis", 40));
+        String afterCreate = eTagOf("/api/v1/clients/metrics");
+
+        ClientUpdateRequest update = new ClientUpdateRequest();
+        update.setName("Ana Maria");
+        clientService.updateClient(existing.getId(), update);
+        String afterUpdate = eTagOf("/api/v1/clients/metrics");
+
+        clientService.deleteClient(existing.getId());
+        String afterDelete = eTagOf("/api/v1/clients/metrics");
+
+        assertThat(List.of(initial, afterCreate, afterUpdate, afterDelete)).doesNotHaveDuplicates();
+        mockMvc.perform(admin(get("/api/v1/clients/metrics")).header(HttpHeaders.IF_NONE_MATCH, initial))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, afterDelete));
+    }
+
+    @Test
+    void staleETag_returnsFreshBody() throws Exception {
+        mockMvc.perform(admin(get("/api/v1/clients")).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, Matchers.containsString("no-cache")))
+                .andExpect(statements(1));
+    }
+
+    @Test
+    void writesFromAnotherInstance_changeTheETagOnceTheCacheExpires() {
+        ClientDatasetVersion local = new ClientDatasetVersion(jdbcTemplate, transactionManager, 0, false, 60_000);
+        ClientDatasetVersion cached = new ClientDatasetVersion(jdbcTemplate, transactionManager, 60_000, false, 60_000);
+        ClientDatasetVersion other = new ClientDatasetVersion(jdbcTemplate, transactionManager, 0, false, 60_000);
+        String before = local.eTag().orElseThrow();
+        assertThat(cached.eTag()).hasValue(before);
+
+        other.bump();
+
+        assertThat(local.eTag()).isEqualTo(other.eTag()).isNotEqualTo(Optional.of(before));
+        assertThat(cached.eTag()).hasValue(before);
+    }
+
+    @Test
+    void rolledBackWrites_keepTheETag() {
+        ClientDatasetVersion version = new ClientDatasetVersion(jdbcTemplate, transactionManager, 0, false, 60_000);
+        String before = version.eTag().orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            version.bump();
+            status.setRollbackOnly();
+        });
+
+        assertThat(version.eTag()).hasValue(before);
+    }
+
+    @Test
+    void bump_writesTheVersionRowOnlyAfterTheCallerCommits() {
+        ClientDatasetVersion version = new ClientDatasetVersion(jdbcTemplate, transactionManager, 0, false, 60_000);
+        long before = storedVersion();
+
+        long duringWrite = new TransactionTemplate(transactionManager).execute(status -> {
+            version.bump();
+            return storedVersion();
+        });
+
+        assertThat(duringWrite).isEqualTo(before);
+        assertThat(storedVersion()).isEqualTo(before + 1);
+        assertThat(version.eTag()).hasValue("\"" + (before + 1) + "\"");
+    }
+
+    @Test
+    void replicaEnabled_withholdsETagUntilLagWindowPasses() {
+        ClientDatasetVersion withReplica = new ClientDatasetVersion(jdbcTemplate, transactionManager, 0, true, 60_000);
+        ClientDatasetVersion withoutReplica = new ClientDatasetVersion(jdbcTemplate, transactionManager, 0, false, 60_000);
+
+        withReplica.bump();
+
+        assertThat(withReplica.eTag()).isEmpty();
+        assertThat(withoutReplica.eTag()).isPresent();
+    }
+
+    private long storedVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM client_dataset_version WHERE id = 1", Long.class);
+    }
+
+    private String eTagOf(String uri) throws Exception {
+        String eTag = mockMvc.perform(admin(get(uri)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        return eTag;
+    }
+
+    private MockHttpServletRequestBuilder admin(MockHttpServletRequestBuilder request) {
+        return request.with(user("admin").roles("ADMIN"));
+    }
+}
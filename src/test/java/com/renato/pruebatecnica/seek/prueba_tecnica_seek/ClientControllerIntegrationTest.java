@@ -9,31 +9,45 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientResponseAdapter;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.controllers.ClientController;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeBucket;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.AgeDistributionResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchError;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientBatchResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ClientValidationException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientDatasetVersion;
 import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
 
 @WebMvcTest(controllers = ClientController.class)
+@Import(ClientResponseAdapter.class)
 @AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 class ClientControllerIntegrationTest {
@@ -47,6 +61,9 @@ class ClientControllerIntegrationTest {
         @MockitoBean
         private ClientService clientService;
 
+        @MockitoBean
+        private ClientDatasetVersion clientDatasetVersion;
+
         @Test
         void createClient_withValidData_returnsCreatedClient() throws Exception {
                 ClientCreateRequest request = new ClientCreateRequest();
@@ -68,8 +85,8 @@ class ClientControllerIntegrationTest {
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isCreated())
                                 .andExpect(jsonPath("$.id", notNullValue()))
-                                .andExpect(jsonPath("$.name").value("John"))
-                                .andExpect(jsonPath("$.surname").value("Doe"))
+                                .andExpect(jsonPath("$.name").value("Jhon"))
+                                .andExpect(jsonPath("$.surname").value("Dow"))
                                 .andExpect(jsonPath("$.age").value(30));
         }
 
@@ -81,7 +98,7 @@ class ClientControllerIntegrationTest {
                 request.setAge(20);
                 request.setBirthDate(LocalDate.of(2000, 1, 1));
 
-                willThrow(new BusinessException("Age does not match birth date"))
+                willThrow(new ClientValidationException("Age does not match birth date"))
                                 .given(clientService)
                                 .saveClient(any(ClientCreateRequest.class));
 
@@ -91,6 +108,26 @@ class ClientControllerIntegrationTest {
                                 .andExpect(status().isUnprocessableEntity());
         }
 
+        @Test
+        void createClients_returnsBatchSummary() throws Exception {
+                ClientCreateRequest request = new ClientCreateRequest();
+                request.setName("John");
+                request.setSurname("Doe");
+                request.setAge(30);
+                request.setBirthDate(LocalDate.of(1994, 12, 17));
+
+                given(clientService.saveClients(any())).willReturn(new ClientBatchResponse(1,
+                                List.of(new ClientBatchError(1, "Age does not match birth date", null))));
+
+                mockMvc.perform(post("/api/v1/clients/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(request, request))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.errors[0].index").value(1))
+                                .andExpect(jsonPath("$.errors[0].message").value("Age does not match birth date"));
+        }
+
         @Test
         void listClients_returnsClientList() throws Exception {
                 Client c1 = new Client();
@@ -107,14 +144,33 @@ class ClientControllerIntegrationTest {
                 c2.setAge(25);
                 c2.setBirthDate(null);
 
-                given(clientService.listClients()).willReturn(List.of(c1, c2));
+                given(clientService.listClients(null, 2))
+                                .willReturn(new SliceImpl<>(List.of(c1, c2), PageRequest.of(0, 2), true));
+
+                mockMvc.perform(get("/api/v1/clients").param("limit", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.clients[0].id").value(1L))
+                                .andExpect(jsonPath("$.clients[0].name").value("A"))
+                                .andExpect(jsonPath("$.clients[1].id").value(2L))
+                                .andExpect(jsonPath("$.clients[1].surname").value("D"))
+                                .andExpect(jsonPath("$.nextCursor").value(2L));
+        }
+
+        @Test
+        void listClients_onLastPage_returnsNullCursor() throws Exception {
+                Client c1 = new Client();
+                c1.setId(3L);
+                c1.setName("E");
+                c1.setSurname("F");
+                c1.setAge(40);
+
+                given(clientService.listClients(2L, null))
+                                .willReturn(new SliceImpl<>(List.of(c1), PageRequest.of(0, 20), false));
 
-                mockMvc.perform(get("/api/v1/clients"))
+                mockMvc.perform(get("/api/v1/clients").param("after", "2"))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$[0].id").value(1L))
-                                .andExpect(jsonPath("$[0].name").value("A"))
-                                .andExpect(jsonPath("$[1].id").value(2L))
-                                .andExpect(jsonPath("$[1].surname").value("D"));
+                                .andExpect(jsonPath("$.clients[0].id").value(3L))
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist());
         }
 
         @Test
@@ -154,6 +210,31 @@ class ClientControllerIntegrationTest {
                                 .andExpect(status().isUnprocessableEntity());
         }
 
+        @Test
+        void getClient_withExistingId_returnsClient() throws Exception {
+                Client client = new Client();
+                client.setId(7L);
+                client.setName("John");
+                client.setSurname("Doe");
+                client.setAge(30);
+                client.setBirthDate(LocalDate.of(1994, 12, 17));
+                given(clientService.findClient(7L)).willReturn(client);
+
+                mockMvc.perform(get("/api/v1/clients/7"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(7))
+                                .andExpect(jsonPath("$.name").value("John"))
+                                .andExpect(jsonPath("$.estimatedDeathDate").value("2074-12-17"));
+        }
+
+        @Test
+        void getClient_withUnknownId_returnsUnprocessableEntity() throws Exception {
+                given(clientService.findClient(99L)).willThrow(new BusinessException("Client not found"));
+
+                mockMvc.perform(get("/api/v1/clients/99"))
+                                .andExpect(status().isUnprocessableEntity());
+        }
+
         @Test
         void deleteClient_withAnyId_returnsNoContent() throws Exception {
                 mockMvc.perform(delete("/api/v1/clients/1"))
@@ -163,12 +244,46 @@ class ClientControllerIntegrationTest {
         @Test
         void getMetrics_returnsMetricsData() throws Exception {
                 MetricsResponse metrics = new MetricsResponse(10.0, 2.5);
-                given(clientService.calculateAverageAge()).willReturn(metrics.getAverageAge());
-                given(clientService.calculateStandardDeviation()).willReturn(metrics.getStandardDeviation());
+                given(clientService.getMetrics()).willReturn(metrics);
 
                 mockMvc.perform(get("/api/v1/clients/metrics"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.averageAge").value(10.0))
                                 .andExpect(jsonPath("$.standardDeviation").value(2.5));
         }
+
+        @Test
+        void getMetrics_fromMemory_isServedWithoutETag() throws Exception {
+                given(clientService.getMetrics()).willReturn(new MetricsResponse(10.0, 2.5));
+                given(clientDatasetVersion.eTag()).willReturn(Optional.of("\"7\""));
+
+                mockMvc.perform(get("/api/v1/clients/metrics").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        }
+
+        @Test
+        void getMetrics_fromDatabase_withCurrentETag_returnsNotModified() throws Exception {
+                given(clientService.isMetricsFromDatabase()).willReturn(true);
+                given(clientDatasetVersion.eTag()).willReturn(Optional.of("\"7\""));
+
+                mockMvc.perform(get("/api/v1/clients/metrics").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+        }
+
+        @Test
+        void getAgeDistribution_returnsPercentilesAndBuckets() throws Exception {
+                AgeDistributionResponse distribution = new AgeDistributionResponse(3, 20, 41, 25, 41, 41,
+                                List.of(new AgeBucket(20, 29, 2), new AgeBucket(30, 39, 0), new AgeBucket(40, 49, 1)));
+                given(clientService.getAgeDistribution()).willReturn(distribution);
+
+                mockMvc.perform(get("/api/v1/clients/metrics/distribution"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.count").value(3))
+                                .andExpect(jsonPath("$.medianAge").value(25))
+                                .andExpect(jsonPath("$.p99Age").value(41))
+                                .andExpect(jsonPath("$.buckets[2].fromAge").value(40))
+                                .andExpect(jsonPath("$.buckets[2].count").value(1));
+        }
 }
@@ -0,0 +1,95 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.controllers.ClientController;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientExportIntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int SAMPLE_EVERY = 100_000;
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @Autowired
+    private ClientController clientController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportClients_writesOneJsonLinePerLiveClient() throws Exception {
+        insertClients(3);
+        jdbcTemplate.update("UPDATE client SET deleted_at = CURRENT_TIMESTAMP WHERE name = 'Name2'");
+
+        ResponseEntity<StreamingResponseBody> response = clientController.exportClients();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":").contains("\"name\":\"Name1\"");
+        assertThat(lines[1]).contains("\"name\":\"Name3\"");
+    }
+
+    @Test
+    void exportClients_overOneMillionRows_keepsHeapFlat() throws Exception {
+        insertClients(ROWS);
+        HeapSamplingOutputStream output = new HeapSamplingOutputStream();
+
+        clientController.exportClients().getBody().writeTo(output);
+
+        assertThat(output.lines).isEqualTo(ROWS);
+        assertThat(output.samples).hasSizeGreaterThanOrEqualTo(ROWS / SAMPLE_EVERY - 1);
+        long first = output.samples.get(0);
+        long max = output.samples.stream().mapToLong(Long::longValue).max().orElse(first);
+        assertThat(max - first).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private void insertClients(int rows) {
+        jdbcTemplate.update("INSERT INTO client (name, surname, age, birth_date) "
+                + "SELECT CONCAT('Name', X), 'Surname', MOD(X, 90), DATEADD('YEAR', -MOD(X, 90), CURRENT_DATE) "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private final List<Long> samples = new ArrayList<>();
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n' && ++lines % SAMPLE_EVERY == 0) {
+                System.gc();
+                Runtime runtime = Runtime.getRuntime();
+                samples.add(runtime.totalMemory() - runtime.freeMemory());
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+    }
+}
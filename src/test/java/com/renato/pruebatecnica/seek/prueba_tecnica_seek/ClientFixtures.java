@@ -0,0 +1,38 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientCache;
+
+// Registered with @ExtendWith: empties the client table and the in-memory state built from it after each test.
+class ClientFixtures implements AfterEachCallback {
+
+    static ClientCreateRequest createRequest(int age) {
+        return createRequest("Name", age);
+    }
+
+    static ClientCreateRequest createRequest(String name, int age) {
+        ClientCreateRequest request = new ClientCreateRequest();
+        request.setName(name);
+        request.setSurname("Surname");
+        request.setAge(age);
+        request.setBirthDate(LocalDate.now().minusYears(age));
+        return request;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        applicationContext.getBean(JdbcTemplate.class).execute("TRUNCATE TABLE client");
+        applicationContext.getBean(ClientAgeStatistics.class).rebuild();
+        applicationContext.getBean(ClientCache.class).clear();
+    }
+}
@@ -0,0 +1,103 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.RevokedTokenRepository;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClientIndexUsageIntegrationTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void keysetListing_usesDeletedAtIdIndex() {
+        QueryInfo query = capture(() -> clientRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 20)));
+
+        assertThat(explain(query)).containsIgnoringCase("IDX_CLIENT_DELETED_AT_ID");
+    }
+
+    @Test
+    void ageQueries_useDeletedAtAgeIndex() {
+        assertThat(explain(capture(clientRepository::countByAge))).containsIgnoringCase("IDX_CLIENT_DELETED_AT_AGE");
+        assertThat(explain(capture(clientRepository::aggregateAgeMetrics)))
+                .containsIgnoringCase("IDX_CLIENT_DELETED_AT_AGE");
+        assertThat(explain(capture(clientRepository::loadAges))).containsIgnoringCase("IDX_CLIENT_DELETED_AT_AGE");
+    }
+
+    @Test
+    void revokedTokenRebuild_usesExpiresAtIndex() {
+        QueryInfo query = capture(() -> revokedTokenRepository.findByExpiresAtAfterOrderByExpiresAtDesc(Instant.now(),
+                Limit.of(100)));
+
+        assertThat(explain(query)).containsIgnoringCase("IDX_REVOKED_TOKEN_EXPIRES_AT");
+    }
+
+    private QueryInfo capture(Runnable action) {
+        List<QueryInfo> queries = new CopyOnWriteArrayList<>();
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                queries.addAll(queryInfoList);
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+        };
+        ChainListener chain = ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        chain.addListener(listener);
+        try {
+            action.run();
+        } finally {
+            chain.getListeners().remove(listener);
+        }
+        assertThat(queries).hasSize(1);
+        return queries.get(0);
+    }
+
+    private String explain(QueryInfo query) {
+        Object[] parameters = query.getParametersList().isEmpty() ? new Object[0]
+                : query.getParametersList().get(0).stream()
+                        .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                        .map(ParameterSetOperation::getArgs)
+                        .map(args -> args[1])
+                        .toArray();
+        return jdbcTemplate.queryForObject("EXPLAIN " + query.getQuery(), String.class, parameters);
+    }
+}
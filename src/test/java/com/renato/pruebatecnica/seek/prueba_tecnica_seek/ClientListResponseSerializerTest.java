@@ -0,0 +1,61 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientListResponseSerializer;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.adapters.ClientResponseAdapter;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientListResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+
+class ClientListResponseSerializerTest {
+
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper prebuilt = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule().addSerializer(new ClientListResponseSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void serialize_matchesReflectiveOutput() throws Exception {
+        ClientListResponse client = new ClientListResponse(7L, "José \"Pepe\"", "Núñez", 44,
+                LocalDate.of(2060, 2, 29));
+
+        assertThat(prebuilt.writeValueAsString(client)).isEqualTo(reflective.writeValueAsString(client));
+    }
+
+    @Test
+    void serialize_writesNullFields() throws Exception {
+        ClientListResponse client = new ClientListResponse(null, null, null, null, null);
+
+        assertThat(prebuilt.writeValueAsString(client))
+                .isEqualTo(reflective.writeValueAsString(client))
+                .isEqualTo("{\"id\":null,\"name\":null,\"surname\":null,\"age\":null,\"estimatedDeathDate\":null}");
+    }
+
+    @Test
+    void toClientListResponse_reusesEstimatedDeathDatePerBirthDate() {
+        ClientResponseAdapter adapter = new ClientResponseAdapter();
+        Client first = Client.builder().id(1L).birthDate(LocalDate.of(1994, 12, 17)).build();
+        Client second = Client.builder().id(2L).birthDate(LocalDate.of(1994, 12, 17)).build();
+
+        LocalDate estimated = adapter.toClientListResponse(first).estimatedDeathDate();
+
+        assertThat(estimated).isEqualTo(LocalDate.of(2074, 12, 17));
+        assertThat(adapter.toClientListResponse(second).estimatedDeathDate()).isSameAs(estimated);
+        assertThat(adapter.toClientListResponse(Client.builder().id(3L).build()).estimatedDeathDate()).isNull();
+    }
+}
@@ -0,0 +1,102 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.config.JpaAuditingConfig;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientAgeAggregate;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.AgeStatisticsCalculator;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.AgeSummary;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+@ActiveProfiles("test")
+class ClientMetricsAggregationIntegrationTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void aggregateAgeMetrics_matchesStreamBasedMath() {
+        Random random = new Random(7);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int age = random.nextInt(100);
+            clients.add(Client.builder()
+                    .name("Name")
+                    .surname("Surname")
+                    .age(age)
+                    .birthDate(LocalDate.now().minusYears(age))
+                    .build());
+        }
+        clientRepository.saveAll(clients);
+        clientRepository.deleteAll(clients.subList(0, 100));
+
+        List<Client> live = clientRepository.findAll();
+        double average = live.stream().mapToInt(Client::getAge).average().orElse(0);
+        double variance = live.stream()
+                .mapToDouble(client -> Math.pow(client.getAge() - average, 2))
+                .average()
+                .orElse(0);
+
+        ClientAgeAggregate aggregate = clientRepository.aggregateAgeMetrics();
+
+        assertThat(aggregate.getCount()).isEqualTo(900);
+        assertThat(aggregate.getAverageAge()).isCloseTo(average, within(1e-9));
+        assertThat(aggregate.getVariance()).isCloseTo(variance, within(1e-9));
+        assertThat(Math.sqrt(aggregate.getVariance())).isCloseTo(Math.sqrt(variance), within(1e-9));
+    }
+
+    @Test
+    void loadAges_skipsDeletedClientsAndFeedsScanMetrics() {
+        List<Client> clients = new ArrayList<>();
+        for (int age = 0; age < 50; age++) {
+            clients.add(Client.builder()
+                    .name("Name")
+                    .surname("Surname")
+                    .age(age)
+                    .birthDate(LocalDate.now().minusYears(age))
+                    .build());
+        }
+        clientRepository.saveAll(clients);
+        clientRepository.deleteAll(clients.subList(0, 10));
+        entityManager.flush();
+
+        int[] ages = clientRepository.loadAges();
+        AgeSummary summary = new AgeStatisticsCalculator(1_000_000).summarize(ages);
+        ClientAgeAggregate aggregate = clientRepository.aggregateAgeMetrics();
+
+        assertThat(ages).hasSize(40).doesNotContain(0, 9);
+        assertThat(summary.count()).isEqualTo(aggregate.getCount());
+        assertThat(summary.mean()).isCloseTo(aggregate.getAverageAge(), within(1e-9));
+        assertThat(summary.variance()).isCloseTo(aggregate.getVariance(), within(1e-9));
+    }
+
+    @Test
+    void aggregateAgeMetrics_withNoClients_returnsZeroCount() {
+        ClientAgeAggregate aggregate = clientRepository.aggregateAgeMetrics();
+
+        assertThat(aggregate.getCount()).isZero();
+        assertThat(aggregate.getAverageAge()).isNull();
+    }
+}
@@ -0,0 +1,160 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.SqlStatementCounts.rows;
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.SqlStatementCounts.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientCache;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = "db.statements.budget=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientStatementBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientCache clientCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Client existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = clientService.saveClient(createRequest("Ana", 30));
+        clientService.saveClient(createRequest("Luis", 40));
+        clientCache.clear();
+    }
+
+    @Test
+    void createClient_executesOneInsertAndBumpsTheVersion() throws Exception {
+        mockMvc.perform(admin(post("/api/v1/clients"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest("Eva", 25))))
+                .andExpect(status().isCreated())
+                .andExpect(statements(3));
+    }
+
+    @Test
+    void createClients_executesOneBatchAndBumpsTheVersion() throws Exception {
+        mockMvc.perform(admin(post("/api/v1/clients/batch"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        createRequest("Eva", 25), createRequest("Leo", 35), createRequest("Mia", 45)))))
+                .andExpect(status().isOk())
+                .andExpect(statements(3));
+    }
+
+    @Test
+    void getClient_loadsOnceThenServesFromCache() throws Exception {
+        mockMvc.perform(admin(get("/api/v1/clients/{id}", existing.getId())))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(rows(1));
+        mockMvc.perform(admin(get("/api/v1/clients/{id}", existing.getId())))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    void listClients_executesOneSelect() throws Exception {
+        mockMvc.perform(admin(get("/api/v1/clients")))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(rows(2));
+    }
+
+    @Test
+    void metrics_areServedWithoutQueries() throws Exception {
+        mockMvc.perform(admin(get("/api/v1/clients/metrics")))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+        mockMvc.perform(admin(get("/api/v1/clients/metrics/distribution")))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    void updateClient_loadsAndUpdatesOnce() throws Exception {
+        ClientUpdateRequest request = new ClientUpdateRequest();
+        request.setName("Ana Maria");
+
+        mockMvc.perform(admin(put("/api/v1/clients/{id}", existing.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(statements(4));
+    }
+
+    @Test
+    void deleteClient_loadsAndSoftDeletesOnce() throws Exception {
+        mockMvc.perform(admin(delete("/api/v1/clients/{id}", existing.getId())))
+                .andExpect(status().isNoContent())
+                .andExpect(statements(4));
+    }
+
+    @Test
+    void requestOverBudget_isCountedPerRoute() throws Exception {
+        double withinBudget = budgetExceeded("POST", "/api/v1/clients");
+        double overBudget = budgetExceeded("DELETE", "/api/v1/clients/{id}");
+
+        mockMvc.perform(admin(post("/api/v1/clients"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest("Eva", 25))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(admin(delete("/api/v1/clients/{id}", existing.getId())))
+                .andExpect(status().isNoContent());
+
+        assertThat(budgetExceeded("POST", "/api/v1/clients")).isEqualTo(withinBudget);
+        assertThat(budgetExceeded("DELETE", "/api/v1/clients/{id}")).isEqualTo(overBudget + 1);
+    }
+
+    private double budgetExceeded(String method, String uri) {
+        Counter counter = meterRegistry.find("db.request.budget.exceeded")
+                .tag("method", method)
+                .tag("uri", uri)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private MockHttpServletRequestBuilder admin(MockHttpServletRequestBuilder request) {
+        return request.with(user("admin").roles("ADMIN"));
+    }
+}
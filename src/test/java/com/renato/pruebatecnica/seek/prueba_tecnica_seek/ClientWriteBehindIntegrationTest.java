@@ -0,0 +1,133 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientWriteBehindQueue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "client.write-behind.enabled=true",
+        "client.write-behind.capacity=3",
+        "client.write-behind.batch-size=10",
+        "client.write-behind.flush-interval-ms=20"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ClientWriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientWriteBehindQueue clientWriteBehindQueue;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientAgeStatistics clientAgeStatistics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        clientWriteBehindQueue.start();
+    }
+
+    @Test
+    void createClient_isAcceptedAndCommittedInBackground() throws Exception {
+        long countBefore = clientAgeStatistics.count();
+
+        String body = mockMvc.perform(createClient("Ana", 30))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsString();
+        String trackingId = objectMapper.readTree(body).get("trackingId").asText();
+
+        awaitStatus(trackingId, "COMMITTED");
+        assertThat(clientRepository.count()).isEqualTo(1);
+        assertThat(clientAgeStatistics.count()).isEqualTo(countBefore + 1);
+        assertThat(meterRegistry.get("client.write-behind.batch.size").summary().count()).isPositive();
+        assertThat(meterRegistry.get("client.write-behind.commit.latency").timer().count()).isPositive();
+    }
+
+    @Test
+    void createClient_invalidAge_isRejectedSynchronously() throws Exception {
+        ClientCreateRequest request = createRequest("Ana", 30);
+        request.setAge(31);
+
+        mockMvc.perform(post("/api/v1/clients")
+                .with(user("admin").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity());
+        assertThat(clientWriteBehindQueue.depth()).isZero();
+    }
+
+    @Test
+    void createClient_whileWriterIsStopped_returnsServiceUnavailable() throws Exception {
+        clientWriteBehindQueue.stop();
+
+        mockMvc.perform(createClient("Ana", 30))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        assertThat(clientWriteBehindQueue.depth()).isZero();
+
+        clientWriteBehindQueue.start();
+        mockMvc.perform(createClient("Ana", 30)).andExpect(status().isAccepted());
+    }
+
+    private RequestBuilder createClient(String name, int age)
+            throws Exception {
+        return post("/api/v1/clients")
+                .with(user("admin").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest(name, age)));
+    }
+
+    private void awaitStatus(String trackingId, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String status = null;
+        while (System.currentTimeMillis() < deadline) {
+            String body = mockMvc.perform(get("/api/v1/clients/submissions/" + trackingId)
+                    .with(user("admin").roles("ADMIN")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            status = objectMapper.readTree(body).get("status").asText();
+            if (expected.equals(status)) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(status).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,187 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ServiceUnavailableException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.TooManyRequestsException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.ClientRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientDatasetVersion;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientSubmissionStatus;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientWriteBehindQueue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ClientWriteBehindQueueTest {
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientWriteBehindQueue queue = new ClientWriteBehindQueue(clientRepository,
+            mock(ClientAgeStatistics.class), mock(ClientDatasetVersion.class),
+            mock(PlatformTransactionManager.class), meterRegistry, true, 3, 10, 20, 3, 1, 1000, 1000, 600);
+
+    @AfterEach
+    void stop() {
+        queue.stop();
+    }
+
+    @Test
+    void submit_beforeStart_isRejected() {
+        assertThatThrownBy(() -> queue.submit(client("Ana")))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(queue.depth()).isZero();
+    }
+
+    @Test
+    void submit_fullQueue_isRejectedWhileWriterIsBusy() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(clientRepository.insertAll(anyList())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.<List<Client>>getArgument(0).size();
+        });
+        queue.start();
+        UUID first = queue.submit(client("First"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            queue.submit(client("Name" + i));
+        }
+
+        assertThatThrownBy(() -> queue.submit(client("Overflow")))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("client.write-behind.queue.depth").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("client.write-behind.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        awaitStatus(first, ClientSubmissionStatus.COMMITTED);
+    }
+
+    @Test
+    void flush_transientFailure_isRetried() throws Exception {
+        given(clientRepository.insertAll(anyList()))
+                .willThrow(new TransientDataAccessResourceException("connection reset"))
+                .willReturn(1);
+        queue.start();
+
+        UUID trackingId = queue.submit(client("Ana"));
+
+        awaitStatus(trackingId, ClientSubmissionStatus.COMMITTED);
+        assertThat(meterRegistry.get("client.write-behind.retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_badRow_failsOnlyThatSubmission() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(clientRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<Client> clients = invocation.getArgument(0);
+            if (clients.get(0).getName().equals("Blocker")) {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (clients.stream().anyMatch(client -> client.getName().equals("Bad"))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return clients.size();
+        });
+        queue.start();
+        queue.submit(client("Blocker"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        UUID good = queue.submit(client("Good"));
+        UUID bad = queue.submit(client("Bad"));
+        UUID other = queue.submit(client("Other"));
+
+        release.countDown();
+
+        awaitStatus(bad, ClientSubmissionStatus.FAILED);
+        awaitStatus(good, ClientSubmissionStatus.COMMITTED);
+        awaitStatus(other, ClientSubmissionStatus.COMMITTED);
+        assertThat(meterRegistry.get("client.write-behind.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_outage_retriesTheWholeBatchWithoutSplitting() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(clientRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<Client> clients = invocation.getArgument(0);
+            if (clients.get(0).getName().equals("Blocker")) {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            throw new CannotGetJdbcConnectionException("database down");
+        });
+        queue.start();
+        UUID blocker = queue.submit(client("Blocker"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        UUID first = queue.submit(client("First"));
+        UUID second = queue.submit(client("Second"));
+
+        release.countDown();
+
+        awaitStatus(blocker, ClientSubmissionStatus.FAILED);
+        awaitStatus(first, ClientSubmissionStatus.FAILED);
+        awaitStatus(second, ClientSubmissionStatus.FAILED);
+        verify(clientRepository, times(6)).insertAll(anyList());
+        assertThat(meterRegistry.get("client.write-behind.retried").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("client.write-behind.failed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void stop_givesUpWaitingForAStuckWriter() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(clientRepository.insertAll(anyList())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return 1;
+        });
+        queue.start();
+        queue.submit(client("Ana"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        queue.stop();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+        release.countDown();
+    }
+
+    private void awaitStatus(UUID trackingId, ClientSubmissionStatus expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.status(trackingId).orElse(null) != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queue.status(trackingId)).contains(expected);
+    }
+
+    private static Client client(String name) {
+        Client client = new Client();
+        client.setName(name);
+        client.setSurname("Surname");
+        client.setAge(30);
+        client.setBirthDate(LocalDate.now().minusYears(30));
+        return client;
+    }
+}
@@ -0,0 +1,50 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+class DataSourceConfigTest {
+
+    @Test
+    void primaryPool_isSizedForPlatformThreads() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("db.pool.platform.maximum-pool-size", "10")
+                .withProperty("db.pool.platform.connection-timeout-ms", "30000");
+
+        try (HikariDataSource dataSource = new DataSourceConfig().primaryDataSource(properties(), environment)) {
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(10);
+            assertThat(dataSource.getConnectionTimeout()).isEqualTo(30000);
+        }
+    }
+
+    @Test
+    void pools_areSizedForVirtualThreads() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true")
+                .withProperty("db.pool.virtual.maximum-pool-size", "20")
+                .withProperty("db.pool.virtual.connection-timeout-ms", "2000")
+                .withProperty("db.pool.replica.maximum-pool-size", "5");
+        DataSourceConfig config = new DataSourceConfig();
+
+        try (HikariDataSource primary = config.primaryDataSource(properties(), environment);
+                HikariDataSource replica = config.replicaDataSource(properties(), environment)) {
+            assertThat(primary.getMaximumPoolSize()).isEqualTo(20);
+            assertThat(primary.getConnectionTimeout()).isEqualTo(2000);
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(5);
+            assertThat(replica.getConnectionTimeout()).isEqualTo(2000);
+        }
+    }
+
+    private static DataSourceProperties properties() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:pool-sizing");
+        properties.setDriverClassName("org.h2.Driver");
+        return properties;
+    }
+}
@@ -0,0 +1,35 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSourcePoolMetricsIntegrationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pool_publishesWaitTimeAndActiveConnections() {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM client", Long.class);
+
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        assertThat(acquire.count()).isPositive();
+        assertThat(acquire.takeSnapshot().histogramCounts()).isNotEmpty();
+        assertThat(meterRegistry.get("hikaricp.connections.active").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.max").gauge().value()).isPositive();
+    }
+}
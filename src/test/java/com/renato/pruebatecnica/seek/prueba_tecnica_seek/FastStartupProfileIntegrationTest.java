@@ -0,0 +1,44 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test", "fast-startup" })
+class FastStartupProfileIntegrationTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void fastStartup_defersNonCriticalBeansAndKeepsRequestPathEager() throws Exception {
+        var beanFactory = context.getBeanFactory();
+
+        assertThat(beanFactory.containsSingleton("openApiConfig")).isFalse();
+        assertThat(beanFactory.containsSingleton("clientServiceImpl")).isTrue();
+        assertThat(beanFactory.containsSingleton("clientRepository")).isTrue();
+        assertThat(beanFactory.containsSingleton("entityManagerFactory")).isTrue();
+        assertThat(beanFactory.containsSingleton("flywayInitializer")).isTrue();
+        assertThat(context.getEnvironment().getProperty("spring.flyway.validate-on-migrate")).isEqualTo("false");
+
+        mockMvc.perform(get("/api/v1/clients").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isOk());
+        assertThat(beanFactory.containsSingleton("openApiConfig")).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.AuthenticatedToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.JwtTokenProvider;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.RefreshToken;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class JwtTokenProviderTest {
+
+    private static final String CURRENT_SECRET = "current-secret-for-jwt-signing-with-at-least-256-bits";
+    private static final String PREVIOUS_SECRET = "previous-secret-for-jwt-signing-with-at-least-256-bits";
+
+    @Test
+    void verify_tokenSignedWithCurrentKey_returnsClaims() {
+        JwtTokenProvider provider = new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k1", 86400);
+
+        String token = provider.generateToken("user@email.com", List.of("ROLE_ADMIN"));
+
+        assertThat(provider.verify(token)).get()
+                .extracting(AuthenticatedToken::username, AuthenticatedToken::roles)
+                .containsExactly("user@email.com", List.of("ROLE_ADMIN"));
+    }
+
+    @Test
+    void verify_tokenSignedWithPreviousKey_isAcceptedAfterRotation() {
+        JwtTokenProvider beforeRotation = new JwtTokenProvider(PREVIOUS_SECRET, 60, 3600, "k1", "", "previous", 86400);
+        JwtTokenProvider afterRotation = new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k1", 86400);
+
+        String token = beforeRotation.generateToken("user@email.com", List.of("ROLE_ADMIN"));
+
+        assertThat(afterRotation.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void verify_tokenWithUnknownKeyId_isRejected() {
+        JwtTokenProvider other = new JwtTokenProvider(PREVIOUS_SECRET, 60, 3600, "k0", "", "previous", 86400);
+        JwtTokenProvider provider = new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k1", 86400);
+
+        String token = other.generateToken("user@email.com", List.of("ROLE_ADMIN"));
+
+        assertThat(provider.verify(token)).isEmpty();
+    }
+
+    @Test
+    void previousKeyIdEqualToCurrent_failsFast() {
+        assertThatThrownBy(() -> new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k2", 86400))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.previous-key-id");
+    }
+
+    @Test
+    void refreshToken_isOnlyAcceptedAsRefreshToken() {
+        JwtTokenProvider provider = new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k1", 86400);
+
+        String refreshToken = provider.generateRefreshToken("user@email.com", List.of("ROLE_ADMIN"));
+        String accessToken = provider.generateToken("user@email.com", List.of("ROLE_ADMIN"));
+
+        assertThat(provider.verify(refreshToken)).isEmpty();
+        assertThat(provider.validateToken(refreshToken)).isFalse();
+        assertThat(provider.verifyRefreshToken(accessToken)).isEmpty();
+        assertThat(provider.verifyRefreshToken(refreshToken)).get()
+                .satisfies(token -> {
+                    assertThat(token.tokenId()).isNotBlank();
+                    assertThat(token.username()).isEqualTo("user@email.com");
+                    assertThat(token.roles()).containsExactly("ROLE_ADMIN");
+                });
+    }
+
+    @Test
+    void refreshToken_rotationKeepsAuthTimeAndIsCappedByMaxSession() {
+        JwtTokenProvider provider = new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k1", 600);
+        Instant authTime = Instant.now().minusSeconds(300).truncatedTo(ChronoUnit.SECONDS);
+
+        RefreshToken rotated = provider.verifyRefreshToken(
+                provider.generateRefreshToken("user@email.com", List.of("ROLE_ADMIN"), authTime)).orElseThrow();
+
+        assertThat(rotated.authTime()).isEqualTo(authTime);
+        assertThat(rotated.expiresAt()).isBeforeOrEqualTo(authTime.plusSeconds(600));
+        assertThat(provider.verifyRefreshToken(provider.generateRefreshToken("user@email.com",
+                List.of("ROLE_ADMIN"), Instant.now().minusSeconds(601)))).isEmpty();
+    }
+
+    @Test
+    void tokensWithoutExpiration_areRejected() {
+        JwtTokenProvider provider = new JwtTokenProvider(CURRENT_SECRET, 60, 3600, "k2", PREVIOUS_SECRET, "k1", 86400);
+
+        String accessToken = signedWithoutExpiration(Jwts.builder().setSubject("user@email.com"));
+        String refreshToken = signedWithoutExpiration(Jwts.builder()
+                .setId("token-id")
+                .setSubject("user@email.com")
+                .claim("typ", "refresh"));
+
+        assertThat(provider.verify(accessToken)).isEmpty();
+        assertThat(provider.verifyRefreshToken(refreshToken)).isEmpty();
+    }
+
+    private static String signedWithoutExpiration(JwtBuilder builder) {
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, "k2")
+                .claim("roles", List.of("ROLE_ADMIN"))
+                .setIssuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(CURRENT_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,88 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.BusinessException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.exceptions.ClientValidationException;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class MethodMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceAndRepositoryCalls_areTimedWithOutcome() {
+        double saved = timerCount("ClientService", "saveClient", "success");
+        double notFound = timerCount("ClientService", "findClient", "business_error");
+        double repositorySaves = timerCount("ClientRepository", "save", "success");
+        double invalid = timerCount("ClientService", "saveClient", "validation_error");
+        ClientCreateRequest mismatchedAge = createRequest(30);
+        mismatchedAge.setAge(31);
+
+        clientService.saveClient(createRequest(30));
+        assertThatThrownBy(() -> clientService.findClient(Long.MAX_VALUE)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> clientService.saveClient(mismatchedAge))
+                .isInstanceOf(ClientValidationException.class)
+                .hasMessage("Age does not match birth date");
+
+        assertThat(timerCount("ClientService", "saveClient", "success") - saved).isEqualTo(1);
+        assertThat(timerCount("ClientService", "findClient", "business_error") - notFound).isEqualTo(1);
+        assertThat(timerCount("ClientRepository", "save", "success") - repositorySaves).isEqualTo(1);
+        assertThat(timerCount("ClientService", "saveClient", "validation_error") - invalid).isEqualTo(1);
+        assertThat(meterRegistry.get("app.method").tag("method", "saveClient").timer()
+                .takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    @Test
+    void request_recordsDatabaseQueryCount() throws Exception {
+        clientService.saveClient(createRequest(30));
+
+        mockMvc.perform(get("/api/v1/clients").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+
+        DistributionSummary queries = meterRegistry.get("db.request.queries")
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/clients")
+                .summary();
+        assertThat(queries.count()).isEqualTo(1);
+        assertThat(queries.totalAmount()).isEqualTo(1);
+    }
+
+    private double timerCount(String className, String method, String outcome) {
+        Timer timer = meterRegistry.find("app.method")
+                .tag("class", className)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
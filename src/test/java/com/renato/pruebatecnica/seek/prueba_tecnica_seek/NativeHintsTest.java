@@ -0,0 +1,72 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.config.NativeHintsConfig;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.MetricsResponse;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Role;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.User;
+
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+class NativeHintsTest {
+
+    private final RuntimeHints hints = registerHints();
+
+    @Test
+    void entities_areReflectivelyAccessible() {
+        for (Class<?> entity : new Class<?>[] { Client.class, User.class, Role.class }) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(entity)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    void dtos_haveJacksonBindingHints() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ClientCreateRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MetricsResponse.class)).accepts(hints);
+    }
+
+    @Test
+    void jjwt_implementationsAndServicesAreRegistered() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonDeserializer")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+                .accepts(hints);
+    }
+
+    @Test
+    void flywayMigrationsAndJdbcProxiesAreRegistered() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_table_client.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/vendor/mysql/V2__add_audit_columns.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, ResultSet.class))
+                .accepts(hints);
+    }
+
+    private static RuntimeHints registerHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeHintsConfig.ApplicationRuntimeHints().registerHints(hints, NativeHintsTest.class.getClassLoader());
+        return hints;
+    }
+}
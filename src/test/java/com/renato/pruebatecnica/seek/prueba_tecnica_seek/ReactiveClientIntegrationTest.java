@@ -0,0 +1,189 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static com.renato.pruebatecnica.seek.prueba_tecnica_seek.ClientFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientUpdateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientAgeStatistics;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ReactiveClientService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(ClientFixtures.class)
+class ReactiveClientIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ReactiveClientService reactiveClientService;
+
+    @Autowired
+    private ClientAgeStatistics clientAgeStatistics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void v2Crud_sharesTableStatisticsAndSoftDeleteWithV1() throws Exception {
+        long initialVersion = datasetVersion();
+        JsonNode first = readJson(perform(post("/api/v2/clients")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest("Ana", 30))))
+                .andExpect(status().isCreated()));
+        JsonNode second = readJson(perform(post("/api/v2/clients")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest("Luis", 40))))
+                .andExpect(status().isCreated()));
+        long firstId = first.get("id").asLong();
+        long secondId = second.get("id").asLong();
+
+        assertThat(clientService.findClient(firstId).getName()).isEqualTo("Ana");
+        assertThat(clientAgeStatistics.count()).isEqualTo(2);
+
+        ClientUpdateRequest update = new ClientUpdateRequest();
+        update.setAge(50);
+        update.setBirthDate(LocalDate.now().minusYears(50));
+        perform(put("/api/v2/clients/" + secondId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.age").value(50));
+
+        perform(get("/api/v2/clients/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.averageAge").value(40.0))
+                .andExpect(jsonPath("$.standardDeviation").value(10.0));
+
+        perform(delete("/api/v2/clients/" + firstId)).andExpect(status().isNoContent());
+
+        String body = perform(get("/api/v2/clients").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(secondId);
+        assertThat(objectMapper.readTree(lines[0]).get("age").asInt()).isEqualTo(50);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted_at IS NOT NULL FROM client WHERE id = ?",
+                Boolean.class, firstId)).isTrue();
+        assertThat(clientAgeStatistics.count()).isEqualTo(1);
+        assertThat(clientService.findClient(secondId).getAge()).isEqualTo(50);
+        assertThat(datasetVersion()).isEqualTo(initialVersion + 4);
+    }
+
+    @Test
+    void updateClient_withUnknownId_returnsUnprocessableEntity() throws Exception {
+        perform(put("/api/v2/clients/999999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Nobody\"}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Client not found"));
+    }
+
+    @Test
+    void updateClient_waitsForConcurrentWriteAndKeepsItsColumns() throws Exception {
+        Client created = clientService.saveClient(createRequest("Ana", 30));
+        CountDownLatch locked = new CountDownLatch(1);
+        CompletableFuture<Void> concurrentWrite = CompletableFuture.runAsync(() -> new TransactionTemplate(
+                transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.update("UPDATE client SET surname = 'Lopez', age = 41, birth_date = ? WHERE id = ?",
+                            LocalDate.now().minusYears(41), created.getId());
+                    locked.countDown();
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ClientUpdateRequest rename = new ClientUpdateRequest();
+        rename.setName("Ana Maria");
+        Client updated = reactiveClientService.updateClient(created.getId(), rename).block();
+        concurrentWrite.join();
+
+        assertThat(updated.getAge()).isEqualTo(41);
+        assertThat(jdbcTemplate.queryForMap("SELECT name, surname, age FROM client WHERE id = ?", created.getId()))
+                .containsEntry("NAME", "Ana Maria")
+                .containsEntry("SURNAME", "Lopez")
+                .containsEntry("AGE", 41);
+    }
+
+    @Test
+    void listClients_honoursCursorAndLimit() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            clientService.saveClient(createRequest("Name" + i, 20 + i));
+        }
+        long firstId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM client", Long.class);
+
+        String body = perform(get("/api/v2/clients?after=" + firstId + "&limit=2").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(firstId + 1);
+    }
+
+    private long datasetVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM client_dataset_version WHERE id = 1", Long.class);
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder.with(user("admin").roles("ADMIN")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private JsonNode readJson(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,157 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.config.ReplicaLagMonitor;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.dtos.ClientCreateRequest;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.entities.Client;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.repositories.UserRepository;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.services.ClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "spring.datasource.replica.enabled=true",
+        "spring.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "spring.datasource.replica.username=sa",
+        "spring.datasource.replica.password=",
+        "spring.datasource.replica.driver-class-name=org.h2.Driver",
+        "spring.datasource.replica.max-lag-ms=1000",
+        "spring.datasource.replica.lag-check-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.update("INSERT INTO client (name, surname, age, birth_date) VALUES ('Primary', 'Row', 30, ?)",
+                LocalDate.now().minusYears(30));
+        replica.update("INSERT INTO client (name, surname, age, birth_date) VALUES ('Replica', 'Row', 40, ?)",
+                LocalDate.now().minusYears(40));
+        replica.update("INSERT INTO user (email, password, role_id) "
+                + "SELECT 'replica@email.com', 'password', id FROM role WHERE name = 'ROLE_ADMIN'");
+        replicaCaughtUp();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        primary.update("DELETE FROM client");
+        replica.update("DELETE FROM client");
+        replica.update("DELETE FROM user WHERE email = 'replica@email.com'");
+    }
+
+    @Test
+    void readOnlyTransactions_readFromReplica() {
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+
+        assertThat(clientService.listClients(null, 10).getContent())
+                .extracting(Client::getName)
+                .containsExactly("Replica");
+        assertThat(userRepository.findByEmail("replica@email.com")).isPresent();
+    }
+
+    @Test
+    void writes_goToPrimary() {
+        ClientCreateRequest request = new ClientCreateRequest();
+        request.setName("Ana");
+        request.setSurname("Torres");
+        request.setAge(25);
+        request.setBirthDate(LocalDate.now().minusYears(25).minusDays(1));
+
+        clientService.saveClient(request);
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM client WHERE name = 'Ana'", Long.class))
+                .isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM client WHERE name = 'Ana'", Long.class))
+                .isZero();
+    }
+
+    @Test
+    void laggingReplica_fallsBackToPrimary() {
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1",
+                Timestamp.from(Instant.now().minus(Duration.ofHours(1))));
+        replicaLagMonitor.check();
+        double fallbacksBefore = meterRegistry.get("db.replica.fallbacks").counter().count();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(replicaLagMonitor.lag()).isGreaterThan(Duration.ofMinutes(59));
+        assertThat(clientService.listClients(null, 10).getContent())
+                .extracting(Client::getName)
+                .containsExactly("Primary");
+        assertThat(meterRegistry.get("db.replica.fallbacks").counter().count()).isGreaterThan(fallbacksBefore);
+        assertThat(meterRegistry.get("db.replica.available").gauge().value()).isZero();
+    }
+
+    @Test
+    void eachPool_publishesItsOwnMetrics() {
+        clientService.listClients(null, 10);
+
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "primary").gauge().value())
+                .isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", "replica").gauge().value())
+                .isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").tag("pool", "replica").timer().count())
+                .isPositive();
+        assertThat(meterRegistry.get("db.replica.lag").gauge().value()).isZero();
+    }
+
+    private void replicaCaughtUp() {
+        replica.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1",
+                Timestamp.from(Instant.now().plus(Duration.ofMinutes(1))));
+        replicaLagMonitor.check();
+    }
+}
@@ -0,0 +1,34 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics.QueryCount;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.metrics.QueryCountFilter;
+
+final class SqlStatementCounts {
+
+    private SqlStatementCounts() {
+    }
+
+    static ResultMatcher statements(long expected) {
+        return result -> assertThat(of(result).statements())
+                .as("SQL statements executed by %s %s", result.getRequest().getMethod(),
+                        result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    static ResultMatcher rows(long expected) {
+        return result -> assertThat(of(result).rows())
+                .as("rows fetched by %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    static QueryCount of(MvcResult result) {
+        Object count = result.getRequest().getAttribute(QueryCountFilter.QUERY_COUNT_ATTRIBUTE);
+        assertThat(count).as("query count recorded by QueryCountFilter").isInstanceOf(QueryCount.class);
+        return (QueryCount) count;
+    }
+}
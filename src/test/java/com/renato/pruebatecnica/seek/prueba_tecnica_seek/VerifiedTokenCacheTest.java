@@ -0,0 +1,67 @@
+package com.renato.pruebatecnica.seek.prueba_tecnica_seek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.AuthenticatedToken;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.JwtTokenProvider;
+import com.renato.pruebatecnica.seek.prueba_tecnica_seek.security.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+    private JwtTokenProvider tokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = mock(JwtTokenProvider.class);
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(tokenProvider, meterRegistry, 100);
+    }
+
+    @Test
+    void verify_repeatedToken_parsesOnceAndRecordsHit() {
+        AuthenticatedToken token = new AuthenticatedToken("user@email.com", List.of("ROLE_ADMIN"),
+                Instant.now().plusSeconds(60));
+        given(tokenProvider.verify("token")).willReturn(Optional.of(token));
+
+        assertThat(verifiedTokenCache.verify("token")).contains(token);
+        assertThat(verifiedTokenCache.verify("token")).contains(token);
+
+        verify(tokenProvider, times(1)).verify("token");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_invalidToken_isNotCached() {
+        given(tokenProvider.verify("invalid")).willReturn(Optional.empty());
+
+        assertThat(verifiedTokenCache.verify("invalid")).isEmpty();
+        assertThat(verifiedTokenCache.verify("invalid")).isEmpty();
+
+        verify(tokenProvider, times(2)).verify("invalid");
+    }
+
+    @Test
+    void verify_expiredToken_isRejected() {
+        AuthenticatedToken token = new AuthenticatedToken("user@email.com", List.of("ROLE_ADMIN"),
+                Instant.now().minusSeconds(1));
+        given(tokenProvider.verify("expired")).willReturn(Optional.of(token));
+
+        assertThat(verifiedTokenCache.verify("expired")).isEmpty();
+    }
+}